@@ -4,14 +4,12 @@
  */
 package com.artipie.http.auth;
 
-import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
 import com.artipie.http.headers.WwwAuthenticate;
+import com.artipie.http.rs.RsFlat;
 import com.artipie.http.rs.RsStatus;
-import com.artipie.http.rs.RsWithHeaders;
-import com.artipie.http.rs.RsWithStatus;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import org.reactivestreams.Publisher;
@@ -23,6 +21,11 @@ import org.reactivestreams.Publisher;
  */
 public final class AuthSlice implements Slice {
 
+    /**
+     * Forbidden response.
+     */
+    private static final Response FORBIDDEN = new RsFlat(RsStatus.FORBIDDEN);
+
     /**
      * Origin.
      */
@@ -69,15 +72,15 @@ public final class AuthSlice implements Slice {
                             if (allowed) {
                                 rsp = this.origin.response(line, headers, body);
                             } else {
-                                rsp = new RsWithStatus(RsStatus.FORBIDDEN);
+                                rsp = AuthSlice.FORBIDDEN;
                             }
                             return rsp;
                         }
                     ).orElseGet(
-                        () -> new RsWithHeaders(
-                            new RsWithStatus(RsStatus.UNAUTHORIZED),
-                            new Headers.From(new WwwAuthenticate(result.challenge()))
-                        )
+                        () -> new RsFlat.Builder()
+                            .status(RsStatus.UNAUTHORIZED)
+                            .header(WwwAuthenticate.NAME, result.challenge())
+                            .build()
                     )
                 )
             );
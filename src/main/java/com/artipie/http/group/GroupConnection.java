@@ -48,10 +48,8 @@ final class GroupConnection implements Connection {
     @Override
     public CompletionStage<Void> accept(final RsStatus status, final Headers headers,
         final Publisher<ByteBuffer> body) {
-        synchronized (this.results) {
-            return this.results.complete(
-                this.pos, new GroupResult(status, headers, body), this.origin
-            );
-        }
+        return this.results.complete(
+            this.pos, new GroupResult(status, headers, body), this.origin
+        );
     }
 }
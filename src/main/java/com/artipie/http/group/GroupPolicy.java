@@ -0,0 +1,341 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import java.time.Duration;
+
+/**
+ * Group slice policy.
+ * <p>
+ * Configures how {@link GroupSlice} sends requests to members. Policy is
+ * immutable, each method returns new policy with the option changed, e.g.
+ * {@code new GroupPolicy().hedged(Duration.ofMillis(100))}. Default policy
+ * sends request to all members at once.
+ * </p>
+ * @since 1.0
+ */
+public final class GroupPolicy {
+
+    /**
+     * Delay before sending request to next member, zero to send to all at once.
+     */
+    private final Duration hedge;
+
+    /**
+     * Time to live of member location.
+     */
+    private final Duration ttl;
+
+    /**
+     * Max number of member locations, zero to disable locations cache.
+     */
+    private final int locations;
+
+    /**
+     * Probe members with {@code HEAD} before {@code GET}.
+     */
+    private final boolean probing;
+
+    /**
+     * Choose member response by members order.
+     */
+    private final boolean order;
+
+    /**
+     * Order members by observed latency and error rate.
+     */
+    private final boolean adaptive;
+
+    /**
+     * Failures in a row to open member circuit breaker, zero to disable breakers.
+     */
+    private final int threshold;
+
+    /**
+     * Probe interval of open member circuit breaker.
+     */
+    private final Duration interval;
+
+    /**
+     * Member response deadline, zero for no deadline.
+     */
+    private final Duration deadline;
+
+    /**
+     * Max number of in-flight member requests per group request, zero for no limit.
+     */
+    private final int request;
+
+    /**
+     * Max number of in-flight member requests of group, zero for no limit.
+     */
+    private final int total;
+
+    /**
+     * Default policy.
+     */
+    public GroupPolicy() {
+        this(
+            Duration.ZERO, Duration.ZERO, 0, false, true, false,
+            0, Duration.ZERO, Duration.ZERO, 0, 0
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param hedge Delay before sending request to next member
+     * @param ttl Time to live of member location
+     * @param locations Max number of member locations
+     * @param probing Probe members with {@code HEAD} before {@code GET}
+     * @param order Choose member response by members order
+     * @param adaptive Order members by observed latency and error rate
+     * @param threshold Failures in a row to open member circuit breaker
+     * @param interval Probe interval of open member circuit breaker
+     * @param deadline Member response deadline
+     * @param request Max number of in-flight member requests per group request
+     * @param total Max number of in-flight member requests of group
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private GroupPolicy(final Duration hedge, final Duration ttl, final int locations,
+        final boolean probing, final boolean order, final boolean adaptive,
+        final int threshold, final Duration interval, final Duration deadline,
+        final int request, final int total) {
+        this.hedge = hedge;
+        this.ttl = ttl;
+        this.locations = locations;
+        this.probing = probing;
+        this.order = order;
+        this.adaptive = adaptive;
+        this.threshold = threshold;
+        this.interval = interval;
+        this.deadline = deadline;
+        this.request = request;
+        this.total = total;
+    }
+
+    /**
+     * Hedged fan-out: send request to members in order, next member is
+     * requested only when previous one failed or didn't respond in delay.
+     * Response of member is still chosen by members order.
+     * @param delay Delay before sending request to next member
+     * @return Policy
+     */
+    public GroupPolicy hedged(final Duration delay) {
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException(
+                String.format("Hedge delay can't be negative: %s", delay)
+            );
+        }
+        return new GroupPolicy(
+            delay, this.ttl, this.locations, this.probing, this.order, this.adaptive,
+            this.threshold, this.interval, this.deadline, this.request, this.total
+        );
+    }
+
+    /**
+     * Cache members which responded successfully by request path. Request
+     * with cached path is sent to cached member alone first, and to other
+     * members only if it failed. It suits immutable artifacts.
+     * @param ttl Time to live of member location
+     * @param size Max number of cached paths
+     * @return Policy
+     */
+    public GroupPolicy cached(final Duration ttl, final int size) {
+        if (ttl.isNegative() || size < 0) {
+            throw new IllegalArgumentException(
+                String.format("Invalid locations cache TTL %s or size %d", ttl, size)
+            );
+        }
+        return new GroupPolicy(
+            this.hedge, ttl, size, this.probing, this.order, this.adaptive,
+            this.threshold, this.interval, this.deadline, this.request, this.total
+        );
+    }
+
+    /**
+     * Probe members with {@code HEAD} request instead of {@code GET}, and
+     * send {@code GET} only to the member chosen by {@code HEAD} responses,
+     * so response body is read from one member only.
+     * @return Policy
+     */
+    public GroupPolicy probing() {
+        return new GroupPolicy(
+            this.hedge, this.ttl, this.locations, true, this.order, this.adaptive,
+            this.threshold, this.interval, this.deadline, this.request, this.total
+        );
+    }
+
+    /**
+     * Choose the first successful member response by completion time, not by
+     * members order: other members are cancelled as soon as any member
+     * succeeded. It suits groups of equivalent mirrors.
+     * @return Policy
+     */
+    public GroupPolicy unordered() {
+        return new GroupPolicy(
+            this.hedge, this.ttl, this.locations, this.probing, false, this.adaptive,
+            this.threshold, this.interval, this.deadline, this.request, this.total
+        );
+    }
+
+    /**
+     * Order members by their observed time to response and error rate instead
+     * of configured order: fast and healthy members are requested first, slow
+     * and failing ones last. Members are scored by moving averages which decay
+     * with time since member's last response, so member at the end of the order
+     * is requested again eventually and moves back to the head of the order if
+     * it recovered. It replaces configured members priority even if policy is
+     * ordered: ordered response is chosen by adaptive order then, so it suits
+     * groups where priority is not strict, e.g. with {@link #unordered()}.
+     * @return Policy
+     */
+    public GroupPolicy adaptive() {
+        return new GroupPolicy(
+            this.hedge, this.ttl, this.locations, this.probing, this.order, true,
+            this.threshold, this.interval, this.deadline, this.request, this.total
+        );
+    }
+
+    /**
+     * Circuit breaker per member: after the given number of failures in a
+     * row, which are server errors and failed responses, member is not
+     * requested and is considered failed at once. After probe interval one
+     * trial request is sent to member, its success closes the breaker.
+     * @param failures Failures in a row to open breaker
+     * @param interval Probe interval of open breaker
+     * @return Policy
+     */
+    public GroupPolicy breaker(final int failures, final Duration interval) {
+        return this.breaker(failures, interval, Duration.ZERO);
+    }
+
+    /**
+     * Circuit breaker per member with response deadline: member which didn't
+     * respond in deadline is recorded as failed, so hanging member opens the
+     * breaker as failing one does. Group response still waits for the member,
+     * use {@link #hedged(Duration)} to request next members meanwhile.
+     * @param failures Failures in a row to open breaker
+     * @param interval Probe interval of open breaker
+     * @param deadline Member response deadline, zero for no deadline
+     * @return Policy
+     */
+    public GroupPolicy breaker(final int failures, final Duration interval,
+        final Duration deadline) {
+        if (failures <= 0 || interval.isNegative() || deadline.isNegative()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid circuit breaker failures %d, interval %s or deadline %s",
+                    failures, interval, deadline
+                )
+            );
+        }
+        return new GroupPolicy(
+            this.hedge, this.ttl, this.locations, this.probing, this.order, this.adaptive,
+            failures, interval, deadline, this.request, this.total
+        );
+    }
+
+    /**
+     * Limit number of in-flight member requests: members are requested in
+     * order, and further members are requested only as earlier ones fail.
+     * Member requests over the group limit wait for other member requests of
+     * the group to complete. Response is chosen the same way as without limits.
+     * @param request Max number of in-flight member requests per group request,
+     *  zero for no limit
+     * @param total Max number of in-flight member requests of group, zero for no limit
+     * @return Policy
+     */
+    public GroupPolicy limited(final int request, final int total) {
+        if (request < 0 || total < 0) {
+            throw new IllegalArgumentException(
+                String.format("Invalid member requests limits %d and %d", request, total)
+            );
+        }
+        return new GroupPolicy(
+            this.hedge, this.ttl, this.locations, this.probing, this.order, this.adaptive,
+            this.threshold, this.interval, this.deadline, request, total
+        );
+    }
+
+    /**
+     * Delay before sending request to next member.
+     * @return Delay, zero to send request to all members at once
+     */
+    Duration hedge() {
+        return this.hedge;
+    }
+
+    /**
+     * Member response deadline.
+     * @return Deadline, zero for no deadline
+     */
+    Duration deadline() {
+        return this.deadline;
+    }
+
+    /**
+     * Max number of in-flight member requests per group request.
+     * @return Limit, zero for no limit
+     */
+    int limit() {
+        return this.request;
+    }
+
+    /**
+     * New permits of in-flight member requests of group.
+     * @return Permits
+     */
+    Permits permits() {
+        return new Permits(this.total);
+    }
+
+    /**
+     * Choose member response by members order.
+     * @return True if ordered
+     */
+    boolean ordered() {
+        return this.order;
+    }
+
+    /**
+     * Order members by observed latency and error rate.
+     * @return True if adaptive
+     */
+    boolean adapt() {
+        return this.adaptive;
+    }
+
+    /**
+     * Probe members with {@code HEAD} before {@code GET}.
+     * @return True if probe
+     */
+    boolean probe() {
+        return this.probing;
+    }
+
+    /**
+     * Member responses are observed, to order members or to break circuit.
+     * @return True if observed
+     */
+    boolean observed() {
+        return this.adaptive || this.threshold > 0;
+    }
+
+    /**
+     * New member circuit breaker.
+     * @return Breaker
+     */
+    MemberBreaker breaker() {
+        return new MemberBreaker(this.threshold, this.interval);
+    }
+
+    /**
+     * New member locations cache.
+     * @return Locations
+     */
+    Locations locations() {
+        return new Locations(this.ttl, this.locations);
+    }
+}
@@ -8,15 +8,32 @@ import com.artipie.http.Connection;
 import com.artipie.http.Response;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithStatus;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 /**
  * Group response.
  * <p>
  * The list of responses which can be send to connection by specified order.
+ * Responses are sent to all at once or, if hedge delay is set, one by one:
+ * next response is sent when previous one failed or after the delay. Responses
+ * are not sent after any sent response succeeded, since they can't be chosen.
+ * If policy limits in-flight member requests, no more than the limit of sent
+ * responses wait for status, next response is sent only when one of them
+ * failed, and each response is sent with a permit of group.
+ * If final responses are set, the final response at position of chosen one is
+ * sent to connection instead of it. Response is chosen by {@link GroupResults}
+ * in order of responses or, if policy is unordered, the first successful one.
  * </p>
  * @since 0.11
  */
@@ -27,26 +44,74 @@ final class GroupResponse implements Response {
      */
     private final List<Response> responses;
 
+    /**
+     * Responses to send instead of chosen ones, empty to send chosen ones.
+     */
+    private final List<Response> finals;
+
+    /**
+     * Group policy.
+     */
+    private final GroupPolicy policy;
+
+    /**
+     * Permits of in-flight member requests of group.
+     */
+    private final Permits permits;
+
+    /**
+     * Listener of chosen response position.
+     */
+    private final IntConsumer winner;
+
     /**
      * New group response.
      * @param responses Responses to group
+     * @param policy Group policy
+     * @param permits Permits of in-flight member requests of group
+     * @param winner Listener of chosen response position
+     * @checkstyle ParameterNumberCheck (3 lines)
      */
-    GroupResponse(final List<Response> responses) {
+    GroupResponse(final List<Response> responses, final GroupPolicy policy,
+        final Permits permits, final IntConsumer winner) {
+        this(responses, Collections.emptyList(), policy, permits, winner);
+    }
+
+    /**
+     * New group response.
+     * @param responses Responses to group
+     * @param finals Responses to send instead of chosen ones by position,
+     *  e.g. {@code GET} responses for chosen {@code HEAD} responses
+     * @param policy Group policy
+     * @param permits Permits of in-flight member requests of group
+     * @param winner Listener of chosen response position
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    GroupResponse(final List<Response> responses, final List<Response> finals,
+        final GroupPolicy policy, final Permits permits, final IntConsumer winner) {
         this.responses = responses;
+        this.finals = finals;
+        this.policy = policy;
+        this.permits = permits;
+        this.winner = winner;
     }
 
     @Override
     public CompletionStage<Void> send(final Connection con) {
         final CompletableFuture<Void> future = new CompletableFuture<>();
-        final GroupResults results = new GroupResults(this.responses.size(), future);
-        for (int pos = 0; pos < this.responses.size(); ++pos) {
-            final GroupConnection connection = new GroupConnection(con, pos, results);
-            this.responses.get(pos)
-                .send(connection)
-                .<CompletionStage<Void>>thenApply(CompletableFuture::completedFuture)
-                .exceptionally(
-                    throwable -> new RsWithStatus(RsStatus.INTERNAL_ERROR).send(connection)
-                );
+        final Launch launch = new Launch(
+            con,
+            new GroupResults(
+                this.responses.size(), future, this.policy.ordered(), this.winner
+            ),
+            future
+        );
+        if (this.policy.hedge().isZero()) {
+            for (int pos = 0; pos < this.responses.size(); ++pos) {
+                launch.start(pos);
+            }
+        } else {
+            launch.start(0);
         }
         return future;
     }
@@ -58,4 +123,195 @@ final class GroupResponse implements Response {
             this.responses.stream().map(Object::toString).collect(Collectors.joining(", "))
         );
     }
+
+    /**
+     * Sending of responses to connection.
+     * @since 1.0
+     */
+    private final class Launch {
+
+        /**
+         * Origin connection.
+         */
+        private final Connection con;
+
+        /**
+         * Response results.
+         */
+        private final GroupResults results;
+
+        /**
+         * Group response future.
+         */
+        private final CompletableFuture<Void> future;
+
+        /**
+         * Number of sent responses.
+         */
+        private final AtomicInteger sent;
+
+        /**
+         * Number of sent responses waiting for status.
+         */
+        private final AtomicInteger active;
+
+        /**
+         * Some sent response succeeded, next responses can't be chosen.
+         */
+        private final AtomicBoolean success;
+
+        /**
+         * Ctor.
+         * @param con Origin connection
+         * @param results Response results
+         * @param future Group response future
+         */
+        Launch(final Connection con, final GroupResults results,
+            final CompletableFuture<Void> future) {
+            this.con = con;
+            this.results = results;
+            this.future = future;
+            this.sent = new AtomicInteger();
+            this.active = new AtomicInteger();
+            this.success = new AtomicBoolean();
+        }
+
+        /**
+         * Send response at position if it's next to send, group response
+         * is not done yet, no sent response succeeded and in-flight limit
+         * is not reached.
+         * @param pos Position
+         */
+        void start(final int pos) {
+            if (this.open(pos) && this.acquire()) {
+                if (this.sent.compareAndSet(pos, pos + 1)) {
+                    this.launch(pos);
+                } else {
+                    this.active.decrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * Send next response which was not sent yet if group response is not
+         * done, no sent response succeeded and in-flight limit is not reached.
+         */
+        void next() {
+            if (this.acquire()) {
+                int pos;
+                boolean open;
+                do {
+                    pos = this.sent.get();
+                    open = this.open(pos);
+                } while (open && !this.sent.compareAndSet(pos, pos + 1));
+                if (open) {
+                    this.launch(pos);
+                } else {
+                    this.active.decrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * Check if response at position can be sent.
+         * @param pos Position
+         * @return True if it can
+         */
+        private boolean open(final int pos) {
+            return pos < GroupResponse.this.responses.size() && !this.future.isDone()
+                && !this.success.get();
+        }
+
+        /**
+         * Take a place of in-flight response.
+         * @return True if in-flight limit is not reached
+         */
+        private boolean acquire() {
+            final int limit = GroupResponse.this.policy.limit();
+            int cur;
+            boolean res;
+            do {
+                cur = this.active.get();
+                res = limit <= 0 || cur < limit;
+            } while (res && !this.active.compareAndSet(cur, cur + 1));
+            return res;
+        }
+
+        /**
+         * Send response at position with permit of group, schedule next
+         * response if hedge delay is set.
+         * @param pos Position
+         */
+        private void launch(final int pos) {
+            final Permits permits = GroupResponse.this.permits;
+            permits.run(
+                () -> {
+                    if (this.future.isDone()) {
+                        permits.release();
+                    } else {
+                        final AtomicBoolean held = new AtomicBoolean(true);
+                        final Runnable release = () -> {
+                            if (held.compareAndSet(true, false)) {
+                                permits.release();
+                            }
+                        };
+                        final Connection connection = this.connection(pos, release);
+                        CompletableFuture.completedFuture(GroupResponse.this.responses.get(pos))
+                            .thenCompose(rsp -> rsp.send(connection))
+                            .<CompletionStage<Void>>thenApply(CompletableFuture::completedFuture)
+                            .exceptionally(
+                                throwable -> new RsWithStatus(RsStatus.INTERNAL_ERROR)
+                                    .send(connection)
+                            )
+                            .thenCompose(Function.identity())
+                            .whenComplete((nothing, err) -> release.run());
+                    }
+                }
+            );
+            final Duration hedge = GroupResponse.this.policy.hedge();
+            if (!hedge.isZero()) {
+                Schedulers.computation().scheduleDirect(
+                    () -> this.start(pos + 1), hedge.toMillis(), TimeUnit.MILLISECONDS
+                );
+            }
+        }
+
+        /**
+         * Connection for response at position, it sends next response
+         * when this one fails. Final response of probed member is sent with
+         * its own permit, the probe permit is released when probe is answered.
+         * @param pos Position
+         * @param release Release permit of response
+         * @return Connection
+         */
+        private Connection connection(final int pos, final Runnable release) {
+            final boolean probed = !GroupResponse.this.finals.isEmpty();
+            final Connection replay;
+            if (probed) {
+                replay = new ProbedConnection(
+                    this.con,
+                    new PermittedResponse(
+                        GroupResponse.this.finals.get(pos), GroupResponse.this.permits
+                    )
+                );
+            } else {
+                replay = this.con;
+            }
+            final Connection connection = new GroupConnection(replay, pos, this.results);
+            return (status, headers, body) -> {
+                if (status.success()) {
+                    this.success.set(true);
+                }
+                if (probed) {
+                    release.run();
+                }
+                final CompletionStage<Void> res = connection.accept(status, headers, body);
+                if (!status.success()) {
+                    this.active.decrementAndGet();
+                    this.next();
+                }
+                return res;
+            };
+        }
+    }
 }
@@ -6,24 +6,43 @@ package com.artipie.http.group;
 
 import com.artipie.http.Connection;
 import com.artipie.http.rs.StandardRs;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
 
 /**
  * Group response results aggregator.
- * @implNote This class is not thread safe and should be synchronized
+ * <p>
+ * Thread safe without locks: results are stored in atomic array, the chosen
+ * result is claimed by CAS, so only one thread replays it and members never
+ * wait for each other. Results before cursor are known to be failed, so they
+ * are not checked again.
+ * </p>
  * @since 0.11
  */
 final class GroupResults {
 
     /**
-     * List of results.
+     * Order of chosen result when none is chosen yet.
      */
-    private final List<GroupResult> list;
+    private static final int NONE = -1;
+
+    /**
+     * Results.
+     */
+    private final AtomicReferenceArray<GroupResult> list;
+
+    /**
+     * Position of first result which is not known to be failed.
+     */
+    private final AtomicInteger cursor;
+
+    /**
+     * Order of chosen result, size of list if all failed.
+     */
+    private final AtomicInteger won;
 
     /**
      * Completion future.
@@ -31,22 +50,32 @@ final class GroupResults {
     private final CompletableFuture<Void> future;
 
     /**
-     * New results aggregator.
-     * @param cap Capacity
-     * @param future Future to complete when all results are done
+     * Choose the first successful result by order, not by completion time.
      */
-    GroupResults(final int cap, final CompletableFuture<Void> future) {
-        this(new ArrayList<>(Collections.nCopies(cap, null)), future);
-    }
+    private final boolean ordered;
 
     /**
-     * Primary constructor.
-     * @param list List of results
+     * Listener of chosen result order.
+     */
+    private final IntConsumer winner;
+
+    /**
+     * New results aggregator.
+     * @param cap Capacity
      * @param future Future to complete when all results are done
+     * @param ordered Choose the first successful result by order or, if false,
+     *  the first completed successful result
+     * @param winner Listener of chosen result order
+     * @checkstyle ParameterNumberCheck (3 lines)
      */
-    private GroupResults(final List<GroupResult> list, final CompletableFuture<Void> future) {
-        this.list = list;
+    GroupResults(final int cap, final CompletableFuture<Void> future, final boolean ordered,
+        final IntConsumer winner) {
+        this.list = new AtomicReferenceArray<>(cap);
+        this.cursor = new AtomicInteger();
+        this.won = new AtomicInteger(GroupResults.NONE);
         this.future = future;
+        this.ordered = ordered;
+        this.winner = winner;
     }
 
     /**
@@ -55,36 +84,85 @@ final class GroupResults {
      * This method checks if the response can be completed. If the result was succeed and
      * all previous ordered results were completed and failed, then the whole response will
      * be replied to the {@link Connection}. If any previous results is not completed, then
-     * this result will be placed in the list to wait all previous results.
+     * this result will be placed in the list to wait all previous results. If results
+     * are not ordered, successful result is replied at once. If result is
+     * already chosen, this result is cancelled.
      * </p>
      * @param order Order of result
      * @param result Repayable result
      * @param con Connection to use for replay
      * @return Future
-     * @checkstyle ReturnCountCheck (25 lines)
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
     public CompletionStage<Void> complete(final int order, final GroupResult result,
         final Connection con) {
-        if (this.future.isDone()) {
-            result.cancel();
-            return CompletableFuture.completedFuture(null);
-        }
-        if (order >= this.list.size()) {
+        if (order >= this.list.length()) {
             throw new IllegalStateException("Wrong order of result");
         }
         this.list.set(order, result);
-        for (int pos = 0; pos < this.list.size(); ++pos) {
+        final int chosen = this.won.get();
+        final CompletionStage<Void> res;
+        if (chosen == GroupResults.NONE && !this.ordered && result.success()) {
+            res = this.claim(order, con);
+        } else if (chosen == GroupResults.NONE) {
+            res = this.resolve(con);
+        } else {
+            if (chosen != order) {
+                result.cancel();
+            }
+            res = CompletableFuture.completedFuture(null);
+        }
+        return res;
+    }
+
+    /**
+     * Choose result if it can be chosen already.
+     * @param con Connection to use for replay
+     * @return Future
+     */
+    private CompletionStage<Void> resolve(final Connection con) {
+        CompletionStage<Void> res = CompletableFuture.completedFuture(null);
+        int pos = this.cursor.get();
+        while (pos < this.list.length()) {
             final GroupResult target = this.list.get(pos);
             if (target == null) {
-                return CompletableFuture.completedFuture(null);
+                break;
             }
             if (target.success()) {
-                return target.replay(con).thenRun(
-                    () -> this.list.stream().filter(Objects::nonNull).forEach(GroupResult::cancel)
-                ).thenRun(() -> this.future.complete(null));
+                res = this.claim(pos, con);
+                break;
+            }
+            pos += 1;
+        }
+        this.cursor.accumulateAndGet(pos, Math::max);
+        if (pos == this.list.length()) {
+            res = this.claim(pos, con);
+        }
+        return res;
+    }
+
+    /**
+     * Claim result and replay it to connection, cancel other results.
+     * @param order Order of result, size of list if all results failed
+     * @param con Connection to use for replay
+     * @return Future
+     */
+    private CompletionStage<Void> claim(final int order, final Connection con) {
+        CompletionStage<Void> res = CompletableFuture.completedFuture(null);
+        if (this.won.compareAndSet(GroupResults.NONE, order)) {
+            for (int pos = 0; pos < this.list.length(); ++pos) {
+                final GroupResult other = this.list.get(pos);
+                if (pos != order && other != null) {
+                    other.cancel();
+                }
+            }
+            if (order < this.list.length()) {
+                this.winner.accept(order);
+                res = this.list.get(order).replay(con);
+            } else {
+                res = StandardRs.NOT_FOUND.send(con);
             }
+            res = res.thenRun(() -> this.future.complete(null));
         }
-        return StandardRs.NOT_FOUND.send(con).thenRun(() -> this.future.complete(null));
+        return res;
     }
 }
@@ -4,22 +4,54 @@
  */
 package com.artipie.http.group;
 
+import com.artipie.asto.Content;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithStatus;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.schedulers.Schedulers;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.reactivestreams.Publisher;
 
 /**
  * Standard group {@link Slice} implementation.
+ * <p>
+ * Requests with broadcast methods are sent to members as configured by
+ * {@link GroupPolicy}, the first successful response by members order, or
+ * the fastest one if policy is unordered, is returned. Member responses are
+ * created only when request is sent to member. If policy is adaptive, members
+ * are ordered by their observed latency and error rate. If policy enables
+ * circuit breakers, members with open breaker are not requested and are
+ * considered failed at once; members which didn't respond in breaker deadline
+ * are recorded as failed. Policy may limit in-flight member requests per
+ * request and per group, then further members are requested as earlier ones fail.
+ * If policy enables locations cache, request is sent to the member which
+ * responded successfully to the same request before, and to other members
+ * only if this one failed. If policy enables probing, {@code GET} request is
+ * sent to members as {@code HEAD}, and only the member chosen by {@code HEAD}
+ * responses gets {@code GET} request.
+ * Other requests are sent to the first member.
+ * </p>
  *
  * @since 0.11
  */
@@ -41,6 +73,31 @@ public final class GroupSlice implements Slice {
      */
     private final List<Slice> targets;
 
+    /**
+     * Group policy.
+     */
+    private final GroupPolicy policy;
+
+    /**
+     * Members which responded successfully by request.
+     */
+    private final Locations locations;
+
+    /**
+     * Member statistics.
+     */
+    private final List<MemberStats> stats;
+
+    /**
+     * Member circuit breakers.
+     */
+    private final List<MemberBreaker> breakers;
+
+    /**
+     * Permits of in-flight member requests.
+     */
+    private final Permits permits;
+
     /**
      * New group slice.
      * @param targets Slices to group
@@ -54,23 +111,221 @@ public final class GroupSlice implements Slice {
      * @param targets Slices to group
      */
     public GroupSlice(final List<Slice> targets) {
+        this(new GroupPolicy(), targets);
+    }
+
+    /**
+     * New group slice.
+     * @param policy Group policy
+     * @param targets Slices to group
+     */
+    public GroupSlice(final GroupPolicy policy, final Slice... targets) {
+        this(policy, Arrays.asList(targets));
+    }
+
+    /**
+     * New group slice.
+     * @param policy Group policy
+     * @param targets Slices to group
+     */
+    public GroupSlice(final GroupPolicy policy, final List<Slice> targets) {
         this.targets = Collections.unmodifiableList(targets);
+        this.policy = policy;
+        this.locations = policy.locations();
+        this.stats = GroupSlice.stats(targets.size());
+        this.breakers = GroupSlice.breakers(policy, targets.size());
+        this.permits = policy.permits();
     }
 
     @Override
     public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
         final Response rsp;
-        final RqMethod method = new RequestLineFrom(line).method();
-        if (GroupSlice.BROADCAST_METHODS.contains(method)) {
-            rsp = new GroupResponse(
-                this.targets.stream()
-                    .map(slice -> slice.response(line, headers, body))
-                    .collect(Collectors.toList())
-            );
+        final RequestLineFrom rql = new RequestLineFrom(line);
+        if (GroupSlice.BROADCAST_METHODS.contains(rql.method())) {
+            final String key = GroupSlice.target(line);
+            final List<Response> members = IntStream.range(0, this.targets.size())
+                .mapToObj(
+                    idx -> this.member(
+                        idx, con -> this.targets.get(idx).response(line, headers, body).send(con)
+                    )
+                )
+                .collect(Collectors.toList());
+            final List<Response> probes;
+            if (this.policy.probe() && rql.method() == RqMethod.GET) {
+                final String head = new RequestLine(
+                    RqMethod.HEAD.value(), key, rql.version()
+                ).toString();
+                probes = IntStream.range(0, this.targets.size())
+                    .mapToObj(
+                        idx -> this.member(
+                            idx,
+                            con -> this.targets.get(idx)
+                                .response(head, headers, Content.EMPTY).send(con)
+                        )
+                    )
+                    .collect(Collectors.toList());
+            } else {
+                probes = Collections.emptyList();
+            }
+            final List<Integer> order = this.order();
+            final Optional<Integer> located = this.locations.find(key);
+            if (located.isPresent()) {
+                final int idx = located.get();
+                rsp = new LocatedResponse(
+                    new PermittedResponse(members.get(idx), this.permits),
+                    this.group(
+                        key,
+                        order.stream().filter(pos -> pos != idx)
+                            .collect(Collectors.toList()),
+                        members,
+                        probes
+                    ),
+                    () -> this.locations.forget(key, idx)
+                );
+            } else {
+                rsp = this.group(key, order, members, probes);
+            }
         } else {
             rsp = this.targets.get(0).response(line, headers, body);
         }
         return rsp;
     }
+
+    /**
+     * Group response of members, its winner is remembered in locations cache.
+     * @param key Request key
+     * @param order Indexes of members to send request to in order
+     * @param members Member responses
+     * @param probes Member probe responses, empty if members are not probed
+     * @return Response
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Response group(final String key, final List<Integer> order,
+        final List<Response> members, final List<Response> probes) {
+        final List<Response> ordered = order.stream().map(members::get)
+            .collect(Collectors.toList());
+        final IntConsumer winner = pos -> this.locations.remember(key, order.get(pos));
+        final Response res;
+        if (probes.isEmpty()) {
+            res = new GroupResponse(ordered, this.policy, this.permits, winner);
+        } else {
+            res = new GroupResponse(
+                order.stream().map(probes::get).collect(Collectors.toList()),
+                ordered, this.policy, this.permits, winner
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Indexes of members in order to send request to.
+     * @return Configured order, or order by member scores if policy is adaptive
+     */
+    private List<Integer> order() {
+        final List<Integer> res = IntStream.range(0, this.targets.size()).boxed()
+            .collect(Collectors.toList());
+        if (this.policy.adapt()) {
+            final double[] scores = this.stats.stream().mapToDouble(MemberStats::score)
+                .toArray();
+            res.sort(Comparator.comparingDouble(idx -> scores[idx]));
+        }
+        return res;
+    }
+
+    /**
+     * Member response which records member statistics and breaker state if
+     * policy observes members. If member circuit breaker is open, member is not
+     * requested and response is {@code 503}.
+     * @param idx Member index
+     * @param origin Member response
+     * @return Response
+     */
+    private Response member(final int idx, final Response origin) {
+        final Response res;
+        if (this.policy.observed()) {
+            final MemberStats stat = this.stats.get(idx);
+            final MemberBreaker breaker = this.breakers.get(idx);
+            res = con -> {
+                final CompletionStage<Void> sent;
+                if (breaker.allow()) {
+                    final MemberConnection measured = new MemberConnection(con, stat, breaker);
+                    final Disposable timer = GroupSlice.deadline(
+                        measured, this.policy.deadline()
+                    );
+                    sent = CompletableFuture.completedFuture(measured)
+                        .thenCompose(origin::send)
+                        .whenComplete(
+                            (nothing, err) -> {
+                                timer.dispose();
+                                if (err != null) {
+                                    measured.failed();
+                                }
+                            }
+                        );
+                } else {
+                    sent = new RsWithStatus(RsStatus.UNAVAILABLE).send(con);
+                }
+                return sent;
+            };
+        } else {
+            res = origin;
+        }
+        return res;
+    }
+
+    /**
+     * Record member failure if it didn't respond in deadline.
+     * @param measured Member connection
+     * @param deadline Response deadline, zero for no deadline
+     * @return Disposable of deadline timer
+     */
+    private static Disposable deadline(final MemberConnection measured,
+        final Duration deadline) {
+        final Disposable res;
+        if (deadline.isZero()) {
+            res = Disposables.disposed();
+        } else {
+            res = Schedulers.computation().scheduleDirect(
+                measured::failed, deadline.toNanos(), TimeUnit.NANOSECONDS
+            );
+        }
+        return res;
+    }
+
+    /**
+     * New member statistics.
+     * @param size Number of members
+     * @return Statistics
+     */
+    private static List<MemberStats> stats(final int size) {
+        return IntStream.range(0, size).mapToObj(idx -> new MemberStats())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * New member circuit breakers.
+     * @param policy Group policy
+     * @param size Number of members
+     * @return Breakers
+     */
+    private static List<MemberBreaker> breakers(final GroupPolicy policy, final int size) {
+        return IntStream.range(0, size).mapToObj(idx -> policy.breaker())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Request target of request line.
+     * @param line Request line
+     * @return Target
+     */
+    private static String target(final String line) {
+        final String trimmed = line.trim();
+        final int start = trimmed.indexOf(' ') + 1;
+        int end = trimmed.indexOf(' ', start);
+        if (end < 0) {
+            end = trimmed.length();
+        }
+        return trimmed.substring(start, end);
+    }
 }
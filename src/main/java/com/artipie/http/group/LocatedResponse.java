@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Response;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Response of member located by cache with fallback.
+ * <p>
+ * Sends located member response to connection if it succeeded. Otherwise
+ * the response body is cancelled, location is forgotten and fallback
+ * response is sent instead.
+ * </p>
+ * @since 1.0
+ */
+final class LocatedResponse implements Response {
+
+    /**
+     * Located member response.
+     */
+    private final Response located;
+
+    /**
+     * Fallback response.
+     */
+    private final Response fallback;
+
+    /**
+     * Action on located member failure.
+     */
+    private final Runnable missed;
+
+    /**
+     * Ctor.
+     * @param located Located member response
+     * @param fallback Fallback response
+     * @param missed Action on located member failure
+     */
+    LocatedResponse(final Response located, final Response fallback, final Runnable missed) {
+        this.located = located;
+        this.fallback = fallback;
+        this.missed = missed;
+    }
+
+    @Override
+    public CompletionStage<Void> send(final Connection con) {
+        final CompletableFuture<Void> res = new CompletableFuture<>();
+        final AtomicBoolean accepted = new AtomicBoolean();
+        CompletableFuture.completedFuture(this.located).thenCompose(
+            rsp -> rsp.send(
+                (status, headers, body) -> {
+                    accepted.set(true);
+                    final CompletionStage<Void> stage;
+                    if (status.success()) {
+                        stage = con.accept(status, headers, body);
+                    } else {
+                        new GroupResult(status, headers, body).cancel();
+                        stage = this.fallback(con);
+                    }
+                    return LocatedResponse.complete(stage, res);
+                }
+            )
+        ).exceptionally(
+            err -> {
+                if (!accepted.get()) {
+                    LocatedResponse.complete(this.fallback(con), res);
+                }
+                return null;
+            }
+        );
+        return res;
+    }
+
+    /**
+     * Send fallback response.
+     * @param con Connection
+     * @return Future
+     */
+    private CompletionStage<Void> fallback(final Connection con) {
+        this.missed.run();
+        return this.fallback.send(con);
+    }
+
+    /**
+     * Complete future with stage result.
+     * @param stage Stage
+     * @param future Future
+     * @return Stage
+     */
+    private static CompletionStage<Void> complete(final CompletionStage<Void> stage,
+        final CompletableFuture<Void> future) {
+        return stage.whenComplete(
+            (nothing, err) -> {
+                if (err == null) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(err);
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import com.artipie.http.misc.BoundedCache;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Group members which responded successfully by request path.
+ * <p>
+ * Bounded concurrent cache, entries expire after TTL. When the cache is full,
+ * the oldest entry is evicted. Cache of zero size keeps nothing.
+ * </p>
+ * @since 1.0
+ */
+final class Locations {
+
+    /**
+     * Member indexes by path.
+     */
+    private final BoundedCache<String, Integer> cache;
+
+    /**
+     * Ctor.
+     * @param ttl Time to live of entry
+     * @param size Max number of entries
+     */
+    Locations(final Duration ttl, final int size) {
+        this.cache = new BoundedCache<>(ttl, size);
+    }
+
+    /**
+     * Find member for path.
+     * @param path Request path
+     * @return Member index or empty if not known
+     */
+    Optional<Integer> find(final String path) {
+        return this.cache.get(path);
+    }
+
+    /**
+     * Remember member for path.
+     * @param path Request path
+     * @param member Member index
+     */
+    void remember(final String path, final int member) {
+        this.cache.put(path, member);
+    }
+
+    /**
+     * Forget member for path, if member is still remembered for it.
+     * @param path Request path
+     * @param member Member index
+     */
+    void forget(final String path, final int member) {
+        this.cache.remove(path, member);
+    }
+}
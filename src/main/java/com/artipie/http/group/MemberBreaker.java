@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker of group member.
+ * <p>
+ * Breaker is closed until member fails the given number of times in a row,
+ * failures are server errors, failed responses and responses which were not
+ * received in deadline. Then it's open and member is not requested during
+ * probe interval. After the interval breaker is
+ * half-open: one trial request per interval is allowed, its success closes
+ * the breaker and its failure opens it again. Breaker with zero failures
+ * threshold is always closed.
+ * </p>
+ * @since 1.0
+ */
+final class MemberBreaker {
+
+    /**
+     * Open time of closed breaker.
+     */
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    /**
+     * Failures in a row to open breaker, zero to never open it.
+     */
+    private final int threshold;
+
+    /**
+     * Probe interval in nanoseconds.
+     */
+    private final long interval;
+
+    /**
+     * Failures in a row.
+     */
+    private final AtomicInteger failures;
+
+    /**
+     * Time when breaker was opened or trial request was sent, in nanoseconds.
+     */
+    private final AtomicLong opened;
+
+    /**
+     * Ctor.
+     * @param threshold Failures in a row to open breaker, zero to never open it
+     * @param interval Probe interval
+     */
+    MemberBreaker(final int threshold, final Duration interval) {
+        this.threshold = threshold;
+        this.interval = interval.toNanos();
+        this.failures = new AtomicInteger();
+        this.opened = new AtomicLong(MemberBreaker.CLOSED);
+    }
+
+    /**
+     * Check if request can be sent to member.
+     * @return True if breaker is closed or trial request is allowed
+     */
+    boolean allow() {
+        final long since = this.opened.get();
+        final boolean res;
+        if (since == MemberBreaker.CLOSED) {
+            res = true;
+        } else {
+            final long now = System.nanoTime();
+            res = now - since >= this.interval && this.opened.compareAndSet(since, now);
+        }
+        return res;
+    }
+
+    /**
+     * Record member response.
+     * @param error Response is error
+     */
+    void record(final boolean error) {
+        if (this.threshold > 0) {
+            if (error) {
+                if (this.failures.incrementAndGet() >= this.threshold) {
+                    this.opened.set(System.nanoTime());
+                }
+            } else {
+                this.failures.set(0);
+                this.opened.set(MemberBreaker.CLOSED);
+            }
+        }
+    }
+}
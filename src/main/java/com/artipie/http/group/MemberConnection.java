@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.rs.RsStatus;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Publisher;
+
+/**
+ * Connection of group member which records member statistics and breaker state.
+ * @since 1.0
+ */
+final class MemberConnection implements Connection {
+
+    /**
+     * Origin connection.
+     */
+    private final Connection origin;
+
+    /**
+     * Member statistics.
+     */
+    private final MemberStats stats;
+
+    /**
+     * Member circuit breaker.
+     */
+    private final MemberBreaker breaker;
+
+    /**
+     * Request start time in nanoseconds.
+     */
+    private final long start;
+
+    /**
+     * Response was recorded.
+     */
+    private final AtomicBoolean recorded;
+
+    /**
+     * Ctor.
+     * @param origin Origin connection
+     * @param stats Member statistics
+     * @param breaker Member circuit breaker
+     */
+    MemberConnection(final Connection origin, final MemberStats stats,
+        final MemberBreaker breaker) {
+        this.origin = origin;
+        this.stats = stats;
+        this.breaker = breaker;
+        this.start = System.nanoTime();
+        this.recorded = new AtomicBoolean();
+    }
+
+    @Override
+    public CompletionStage<Void> accept(final RsStatus status, final Headers headers,
+        final Publisher<ByteBuffer> body) {
+        this.record(status.serverError());
+        return this.origin.accept(status, headers, body);
+    }
+
+    /**
+     * Record failure of member response if no response was accepted, e.g.
+     * when member failed or didn't respond in deadline.
+     */
+    void failed() {
+        this.record(true);
+    }
+
+    /**
+     * Record member response once.
+     * @param error Response is error
+     */
+    private void record(final boolean error) {
+        if (this.recorded.compareAndSet(false, true)) {
+            this.stats.record(System.nanoTime() - this.start, error);
+            this.breaker.record(error);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Observed statistics of group member.
+ * <p>
+ * Keeps exponentially weighted moving averages of member time to response
+ * status and of its error ratio, errors are server errors and failed responses.
+ * Averages are updated by CAS without locks. Member score is expected time to
+ * response penalized by errors, lower is better; member without observations
+ * has zero score, so it's tried first. Score decays exponentially toward zero
+ * by time since the last observation, so member which is not requested
+ * because it was slow or failing is tried again eventually, and moves back
+ * if it recovered.
+ * </p>
+ * @since 1.0
+ */
+final class MemberStats {
+
+    /**
+     * Weight of new observation.
+     */
+    private static final double ALPHA = 0.2;
+
+    /**
+     * Score multiplier for error ratio.
+     */
+    private static final double PENALTY = 10.0;
+
+    /**
+     * Default score decay time.
+     */
+    private static final Duration DECAY = Duration.ofSeconds(30);
+
+    /**
+     * Average time to response status in nanoseconds, as double bits.
+     */
+    private final AtomicLong latency;
+
+    /**
+     * Average error ratio, as double bits.
+     */
+    private final AtomicLong errors;
+
+    /**
+     * Time of the last observation in nanoseconds.
+     */
+    private final AtomicLong last;
+
+    /**
+     * Score decay time in nanoseconds, score decreases {@code e} times
+     * during this time without observations.
+     */
+    private final double decay;
+
+    /**
+     * Ctor.
+     */
+    MemberStats() {
+        this(MemberStats.DECAY);
+    }
+
+    /**
+     * Ctor.
+     * @param decay Score decay time
+     */
+    MemberStats(final Duration decay) {
+        this.latency = new AtomicLong(Double.doubleToLongBits(Double.NaN));
+        this.errors = new AtomicLong(Double.doubleToLongBits(Double.NaN));
+        this.last = new AtomicLong(System.nanoTime());
+        this.decay = decay.toNanos();
+    }
+
+    /**
+     * Record member response.
+     * @param nanos Time to response status in nanoseconds
+     * @param error Response is error
+     */
+    void record(final long nanos, final boolean error) {
+        MemberStats.update(this.latency, nanos);
+        final double ratio;
+        if (error) {
+            ratio = 1.0;
+        } else {
+            ratio = 0.0;
+        }
+        MemberStats.update(this.errors, ratio);
+        this.last.set(System.nanoTime());
+    }
+
+    /**
+     * Member score.
+     * @return Score, lower is better
+     */
+    double score() {
+        final double lat = Double.longBitsToDouble(this.latency.get());
+        final double res;
+        if (Double.isNaN(lat)) {
+            res = 0.0;
+        } else {
+            final double age = System.nanoTime() - this.last.get();
+            res = lat * (1.0 + MemberStats.PENALTY * Double.longBitsToDouble(this.errors.get()))
+                * Math.exp(-age / this.decay);
+        }
+        return res;
+    }
+
+    /**
+     * Update moving average.
+     * @param avg Average as double bits
+     * @param sample New observation
+     */
+    private static void update(final AtomicLong avg, final double sample) {
+        long prev;
+        long next;
+        do {
+            prev = avg.get();
+            final double cur = Double.longBitsToDouble(prev);
+            if (Double.isNaN(cur)) {
+                next = Double.doubleToLongBits(sample);
+            } else {
+                next = Double.doubleToLongBits(
+                    cur + MemberStats.ALPHA * (sample - cur)
+                );
+            }
+        } while (!avg.compareAndSet(prev, next));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Permits of in-flight member requests of group.
+ * <p>
+ * Task is run at once if there is a free permit, otherwise it waits in queue
+ * and is run when a permit is released, in order of waiting. Task holds the
+ * permit until it releases it. Permits don't block threads and don't use locks.
+ * Waiting tasks are run by the outermost draining caller: if a task releases
+ * a permit or runs another task synchronously, the nested call only marks
+ * that draining is required, so stack doesn't grow with number of waiters.
+ * Tasks must not throw exceptions. Zero permits means no limit, then tasks
+ * are always run at once.
+ * </p>
+ * @since 1.0
+ */
+final class Permits {
+
+    /**
+     * Max number of permits, zero for no limit.
+     */
+    private final int limit;
+
+    /**
+     * Number of free permits.
+     */
+    private final AtomicInteger free;
+
+    /**
+     * Tasks waiting for permit.
+     */
+    private final Queue<Runnable> waiters;
+
+    /**
+     * Number of draining requests, not zero while some caller drains waiters.
+     */
+    private final AtomicInteger draining;
+
+    /**
+     * Ctor.
+     * @param limit Max number of permits, zero for no limit
+     */
+    Permits(final int limit) {
+        this.limit = limit;
+        this.free = new AtomicInteger(limit);
+        this.waiters = new ConcurrentLinkedQueue<>();
+        this.draining = new AtomicInteger();
+    }
+
+    /**
+     * Run task with permit, task must release it.
+     * @param task Task
+     */
+    void run(final Runnable task) {
+        if (this.limit > 0) {
+            this.waiters.add(task);
+            this.drain();
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * Release permit.
+     */
+    void release() {
+        if (this.limit > 0) {
+            this.free.incrementAndGet();
+            this.drain();
+        }
+    }
+
+    /**
+     * Run waiting tasks while there are free permits, if no other caller
+     * drains them, otherwise request that caller to drain again.
+     */
+    private void drain() {
+        if (this.draining.getAndIncrement() == 0) {
+            int missed = 1;
+            while (missed != 0) {
+                Runnable task = this.take();
+                while (task != null) {
+                    task.run();
+                    task = this.take();
+                }
+                missed = this.draining.addAndGet(-missed);
+            }
+        }
+    }
+
+    /**
+     * Take waiting task with free permit.
+     * @return Task or null if there are no waiting tasks or free permits
+     */
+    private Runnable take() {
+        Runnable res = null;
+        boolean more = true;
+        while (more && !this.waiters.isEmpty()) {
+            final int cur = this.free.get();
+            if (cur <= 0) {
+                more = false;
+            } else if (this.free.compareAndSet(cur, cur - 1)) {
+                res = this.waiters.poll();
+                if (res == null) {
+                    this.free.incrementAndGet();
+                } else {
+                    more = false;
+                }
+            }
+        }
+        return res;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Response;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Member response which is sent with permit of group.
+ * <p>
+ * Response is sent when a permit is available, the permit is released when
+ * response is sent. If member responds with unsuccessful status, the permit
+ * is released before the response is passed to connection, since connection
+ * may send other member requests instead of it.
+ * </p>
+ * @since 1.0
+ */
+final class PermittedResponse implements Response {
+
+    /**
+     * Origin response.
+     */
+    private final Response origin;
+
+    /**
+     * Permits of in-flight member requests of group.
+     */
+    private final Permits permits;
+
+    /**
+     * Ctor.
+     * @param origin Origin response
+     * @param permits Permits of in-flight member requests of group
+     */
+    PermittedResponse(final Response origin, final Permits permits) {
+        this.origin = origin;
+        this.permits = permits;
+    }
+
+    @Override
+    public CompletionStage<Void> send(final Connection con) {
+        final CompletableFuture<Void> res = new CompletableFuture<>();
+        this.permits.run(
+            () -> {
+                final AtomicBoolean held = new AtomicBoolean(true);
+                final Runnable release = () -> {
+                    if (held.compareAndSet(true, false)) {
+                        this.permits.release();
+                    }
+                };
+                CompletableFuture.completedFuture(this.origin).thenCompose(
+                    rsp -> rsp.send(
+                        (status, headers, body) -> {
+                            if (!status.success()) {
+                                release.run();
+                            }
+                            return con.accept(status, headers, body);
+                        }
+                    )
+                ).whenComplete(
+                    (nothing, err) -> {
+                        release.run();
+                        if (err == null) {
+                            res.complete(null);
+                        } else {
+                            res.completeExceptionally(err);
+                        }
+                    }
+                );
+            }
+        );
+        return res;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.rs.RsStatus;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+import org.reactivestreams.Publisher;
+
+/**
+ * Connection which sends final response instead of accepted probe response.
+ * <p>
+ * Probe response body is cancelled, final response is sent to origin connection.
+ * </p>
+ * @since 1.0
+ */
+final class ProbedConnection implements Connection {
+
+    /**
+     * Origin connection.
+     */
+    private final Connection origin;
+
+    /**
+     * Final response.
+     */
+    private final Response response;
+
+    /**
+     * Ctor.
+     * @param origin Origin connection
+     * @param response Final response
+     */
+    ProbedConnection(final Connection origin, final Response response) {
+        this.origin = origin;
+        this.response = response;
+    }
+
+    @Override
+    public CompletionStage<Void> accept(final RsStatus status, final Headers headers,
+        final Publisher<ByteBuffer> body) {
+        new GroupResult(status, headers, body).cancel();
+        return this.response.send(this.origin);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.headers;
+
+import com.artipie.http.misc.ContentCoding;
+import com.artipie.http.rq.RqHeaders;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Accept-Encoding header, check
+ * <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Accept-Encoding">
+ * documentation</a> for more details.
+ * @since 1.0
+ */
+public final class AcceptEncoding {
+
+    /**
+     * Header name.
+     */
+    public static final String NAME = "Accept-Encoding";
+
+    /**
+     * Wildcard coding.
+     */
+    private static final String ANY = "*";
+
+    /**
+     * Headers.
+     */
+    private final Iterable<Map.Entry<String, String>> headers;
+
+    /**
+     * Ctor.
+     * @param headers Headers to extract `accept-encoding` header from
+     */
+    public AcceptEncoding(final Iterable<Map.Entry<String, String>> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Parses `Accept-Encoding` header values, sorts them according to weight and returns
+     * acceptable codings in corresponding order. Codings with zero weight are excluded.
+     * @return List of lower-cased codings
+     */
+    public List<String> values() {
+        return this.weights().entrySet().stream()
+            .filter(entry -> entry.getValue() > 0)
+            .sorted((one, two) -> Float.compare(two.getValue(), one.getValue()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Most preferred supported content coding.
+     * @return Content coding or empty if client doesn't accept any supported coding
+     */
+    public Optional<ContentCoding> preferred() {
+        final Map<String, Float> weights = this.weights();
+        return this.values().stream().flatMap(
+            token -> {
+                final Stream<ContentCoding> res;
+                if (AcceptEncoding.ANY.equals(token)) {
+                    res = Stream.of(ContentCoding.values())
+                        .filter(coding -> !weights.containsKey(coding.token()));
+                } else {
+                    res = ContentCoding.byToken(token).map(Stream::of).orElseGet(Stream::empty);
+                }
+                return res;
+            }
+        ).findFirst();
+    }
+
+    /**
+     * Codings weights in order of appearance.
+     * @return Map of coding to weight
+     */
+    private Map<String, Float> weights() {
+        final Map<String, Float> map = new LinkedHashMap<>();
+        new RqHeaders(this.headers, AcceptEncoding.NAME).stream()
+            .flatMap(val -> Stream.of(val.split(",")))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .forEach(
+                item -> {
+                    final String[] parts = item.split(";");
+                    float weight = 1;
+                    for (int idx = 1; idx < parts.length; ++idx) {
+                        final String param = parts[idx].trim();
+                        if (param.startsWith("q=")) {
+                            weight = AcceptEncoding.weight(param.substring(2));
+                        }
+                    }
+                    map.merge(parts[0].trim().toLowerCase(Locale.US), weight, Float::min);
+                }
+            );
+        return map;
+    }
+
+    /**
+     * Parse weight value.
+     * @param val Weight string
+     * @return Weight, zero if invalid
+     */
+    private static float weight(final String val) {
+        float res;
+        try {
+            res = Float.parseFloat(val);
+        } catch (final NumberFormatException ignored) {
+            res = 0;
+        }
+        return res;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.headers;
+
+import com.artipie.http.Headers;
+import com.artipie.http.misc.ContentCoding;
+import com.artipie.http.rq.RqHeaders;
+
+/**
+ * Content-Encoding header.
+ *
+ * @since 1.0
+ */
+public final class ContentEncoding extends Header.Wrap {
+
+    /**
+     * Header name.
+     */
+    public static final String NAME = "Content-Encoding";
+
+    /**
+     * Ctor.
+     *
+     * @param coding Content coding.
+     */
+    public ContentEncoding(final ContentCoding coding) {
+        this(coding.token());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param value Header value.
+     */
+    public ContentEncoding(final String value) {
+        super(new Header(ContentEncoding.NAME, value));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param headers Headers to extract header from.
+     */
+    public ContentEncoding(final Headers headers) {
+        this(new RqHeaders.Single(headers, ContentEncoding.NAME).asString());
+    }
+}
@@ -10,7 +10,6 @@ import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rs.CachedResponse;
-import io.reactivex.Flowable;
 import org.cactoos.func.StickyFunc;
 import org.cactoos.func.UncheckedFunc;
 import org.hamcrest.Description;
@@ -39,7 +38,7 @@ public final class SliceHasResponse extends TypeSafeMatcher<Slice> {
      * @param line Request line
      */
     public SliceHasResponse(final Matcher<? extends Response> rsp, final RequestLine line) {
-        this(rsp, line, Headers.EMPTY, new Content.From(Flowable.empty()));
+        this(rsp, line, Headers.EMPTY, Content.EMPTY);
     }
 
     /**
@@ -0,0 +1,513 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Lightweight body publishers.
+ * <p>
+ * Purpose-built publishers of byte buffers for trivial response and request
+ * bodies. They don't use schedulers, emit items in the thread which requested
+ * them and allocate only one subscription object per subscriber.
+ * </p>
+ * @since 1.0
+ */
+public final class Bodies {
+
+    /**
+     * Empty body.
+     */
+    public static final Publisher<ByteBuffer> EMPTY = new Empty();
+
+    /**
+     * Utility class.
+     */
+    private Bodies() {
+    }
+
+    /**
+     * Publisher which completes without items.
+     * @since 1.0
+     */
+    public static final class Empty implements Publisher<ByteBuffer> {
+
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> sub) {
+            new Array().subscribe(sub);
+        }
+    }
+
+    /**
+     * Publisher of single buffer.
+     * @since 1.0
+     */
+    public static final class Single implements Publisher<ByteBuffer> {
+
+        /**
+         * Buffer.
+         */
+        private final ByteBuffer buf;
+
+        /**
+         * Ctor.
+         * @param buf Buffer
+         */
+        public Single(final ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> sub) {
+            new Array(this.buf).subscribe(sub);
+        }
+    }
+
+    /**
+     * Publisher of buffers array.
+     * @since 1.0
+     */
+    public static final class Array implements Publisher<ByteBuffer> {
+
+        /**
+         * Buffers.
+         */
+        private final ByteBuffer[] bufs;
+
+        /**
+         * Ctor.
+         * @param bufs Buffers
+         */
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        public Array(final ByteBuffer... bufs) {
+            this.bufs = bufs;
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> sub) {
+            final ArraySubscription subscription = new ArraySubscription(sub, this.bufs);
+            sub.onSubscribe(subscription);
+            if (this.bufs.length == 0) {
+                subscription.complete();
+            }
+        }
+    }
+
+    /**
+     * Publisher which publishes items of all sources one after another.
+     * @since 1.0
+     */
+    public static final class Concat implements Publisher<ByteBuffer> {
+
+        /**
+         * Sources.
+         */
+        private final List<Publisher<ByteBuffer>> sources;
+
+        /**
+         * Ctor.
+         * @param sources Sources
+         */
+        public Concat(final List<Publisher<ByteBuffer>> sources) {
+            this.sources = sources;
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> sub) {
+            final ConcatSubscriber concat = new ConcatSubscriber(sub, this.sources);
+            sub.onSubscribe(concat);
+            concat.next();
+        }
+    }
+
+    /**
+     * Publisher which maps items of origin publisher.
+     * @since 1.0
+     */
+    public static final class Map implements Publisher<ByteBuffer> {
+
+        /**
+         * Origin publisher.
+         */
+        private final Publisher<ByteBuffer> origin;
+
+        /**
+         * Mapping function.
+         */
+        private final Function<ByteBuffer, ByteBuffer> func;
+
+        /**
+         * Ctor.
+         * @param origin Origin publisher
+         * @param func Mapping function
+         */
+        public Map(final Publisher<ByteBuffer> origin,
+            final Function<ByteBuffer, ByteBuffer> func) {
+            this.origin = origin;
+            this.func = func;
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super ByteBuffer> sub) {
+            this.origin.subscribe(new MapSubscriber(sub, this.func));
+        }
+    }
+
+    /**
+     * Add demand without overflow.
+     * @param cur Current demand
+     * @param add Requested amount
+     * @return New demand
+     */
+    private static long demand(final long cur, final long add) {
+        final long res;
+        if (Long.MAX_VALUE - cur < add) {
+            res = Long.MAX_VALUE;
+        } else {
+            res = cur + add;
+        }
+        return res;
+    }
+
+    /**
+     * Signal invalid request amount error.
+     * @param sub Subscriber
+     */
+    private static void invalid(final Subscriber<?> sub) {
+        sub.onError(new IllegalArgumentException("Requested amount should be positive"));
+    }
+
+    /**
+     * Subscription which emits array items on demand.
+     * @since 1.0
+     */
+    private static final class ArraySubscription implements Subscription {
+
+        /**
+         * Subscriber.
+         */
+        private final Subscriber<? super ByteBuffer> sub;
+
+        /**
+         * Items.
+         */
+        private final ByteBuffer[] items;
+
+        /**
+         * Outstanding demand, emitting thread owns the subscription while it's positive.
+         */
+        private final AtomicLong requested;
+
+        /**
+         * Next item index.
+         */
+        private int index;
+
+        /**
+         * Cancelled or completed.
+         */
+        private volatile boolean done;
+
+        /**
+         * Ctor.
+         * @param sub Subscriber
+         * @param items Items
+         */
+        @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+        ArraySubscription(final Subscriber<? super ByteBuffer> sub, final ByteBuffer... items) {
+            this.sub = sub;
+            this.items = items;
+            this.requested = new AtomicLong();
+        }
+
+        @Override
+        public void request(final long amount) {
+            if (amount <= 0) {
+                if (!this.done) {
+                    this.done = true;
+                    Bodies.invalid(this.sub);
+                }
+            } else if (this.requested.getAndAccumulate(amount, Bodies::demand) == 0) {
+                this.emit(amount);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.done = true;
+        }
+
+        /**
+         * Complete subscriber if not done yet.
+         */
+        void complete() {
+            if (!this.done) {
+                this.done = true;
+                this.sub.onComplete();
+            }
+        }
+
+        /**
+         * Emit items while there is demand.
+         * @param amount Initial demand
+         */
+        private void emit(final long amount) {
+            long demand = amount;
+            while (demand != 0) {
+                long emitted = 0;
+                while (emitted != demand && this.index < this.items.length && !this.done) {
+                    this.sub.onNext(this.items[this.index]);
+                    this.index += 1;
+                    emitted += 1;
+                }
+                if (this.index == this.items.length) {
+                    this.complete();
+                }
+                if (this.done) {
+                    break;
+                }
+                demand = this.requested.addAndGet(-emitted);
+            }
+        }
+    }
+
+    /**
+     * Subscriber which subscribes to sources one after another.
+     * @since 1.0
+     */
+    private static final class ConcatSubscriber implements Subscriber<ByteBuffer>, Subscription {
+
+        /**
+         * Downstream.
+         */
+        private final Subscriber<? super ByteBuffer> downstream;
+
+        /**
+         * Sources.
+         */
+        private final List<Publisher<ByteBuffer>> sources;
+
+        /**
+         * Subscribe work in progress counter.
+         */
+        private final AtomicInteger wip;
+
+        /**
+         * Lock for demand and current subscription.
+         */
+        private final Object lock;
+
+        /**
+         * Next source index.
+         */
+        private int index;
+
+        /**
+         * Outstanding demand.
+         */
+        private long requested;
+
+        /**
+         * Current source subscription.
+         */
+        private Subscription current;
+
+        /**
+         * Cancelled or failed.
+         */
+        private volatile boolean done;
+
+        /**
+         * Ctor.
+         * @param downstream Downstream
+         * @param sources Sources
+         */
+        private ConcatSubscriber(final Subscriber<? super ByteBuffer> downstream,
+            final List<Publisher<ByteBuffer>> sources) {
+            this.downstream = downstream;
+            this.sources = sources;
+            this.wip = new AtomicInteger();
+            this.lock = new Object();
+        }
+
+        @Override
+        public void onSubscribe(final Subscription sub) {
+            final long demand;
+            synchronized (this.lock) {
+                this.current = sub;
+                demand = this.requested;
+            }
+            if (this.done) {
+                sub.cancel();
+            } else if (demand > 0) {
+                sub.request(demand);
+            }
+        }
+
+        @Override
+        public void onNext(final ByteBuffer item) {
+            synchronized (this.lock) {
+                if (this.requested != Long.MAX_VALUE) {
+                    this.requested -= 1;
+                }
+            }
+            this.downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(final Throwable err) {
+            if (!this.done) {
+                this.done = true;
+                this.downstream.onError(err);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            this.next();
+        }
+
+        @Override
+        public void request(final long amount) {
+            if (amount <= 0) {
+                this.cancel();
+                Bodies.invalid(this.downstream);
+            } else {
+                final Subscription sub;
+                synchronized (this.lock) {
+                    this.requested = Bodies.demand(this.requested, amount);
+                    sub = this.current;
+                }
+                if (sub != null) {
+                    sub.request(amount);
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.done = true;
+            final Subscription sub;
+            synchronized (this.lock) {
+                sub = this.current;
+            }
+            if (sub != null) {
+                sub.cancel();
+            }
+        }
+
+        /**
+         * Subscribe to next source or complete downstream, synchronous completions
+         * of sources are handled in a loop instead of recursion.
+         */
+        void next() {
+            if (this.wip.getAndIncrement() == 0) {
+                do {
+                    if (this.done) {
+                        break;
+                    }
+                    if (this.index == this.sources.size()) {
+                        this.done = true;
+                        this.downstream.onComplete();
+                        break;
+                    }
+                    final Publisher<ByteBuffer> source = this.sources.get(this.index);
+                    this.index += 1;
+                    source.subscribe(this);
+                } while (this.wip.decrementAndGet() != 0);
+            }
+        }
+    }
+
+    /**
+     * Subscriber which maps items.
+     * @since 1.0
+     */
+    private static final class MapSubscriber implements Subscriber<ByteBuffer>, Subscription {
+
+        /**
+         * Downstream.
+         */
+        private final Subscriber<? super ByteBuffer> downstream;
+
+        /**
+         * Mapping function.
+         */
+        private final Function<ByteBuffer, ByteBuffer> func;
+
+        /**
+         * Upstream subscription.
+         */
+        private Subscription upstream;
+
+        /**
+         * Failed by mapping function.
+         */
+        private boolean done;
+
+        /**
+         * Ctor.
+         * @param downstream Downstream
+         * @param func Mapping function
+         */
+        MapSubscriber(final Subscriber<? super ByteBuffer> downstream,
+            final Function<ByteBuffer, ByteBuffer> func) {
+            this.downstream = downstream;
+            this.func = func;
+        }
+
+        @Override
+        public void onSubscribe(final Subscription sub) {
+            this.upstream = sub;
+            this.downstream.onSubscribe(this);
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public void onNext(final ByteBuffer item) {
+            if (!this.done) {
+                try {
+                    this.downstream.onNext(this.func.apply(item));
+                } catch (final RuntimeException err) {
+                    this.upstream.cancel();
+                    this.onError(err);
+                }
+            }
+        }
+
+        @Override
+        public void onError(final Throwable err) {
+            if (!this.done) {
+                this.done = true;
+                this.downstream.onError(err);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!this.done) {
+                this.done = true;
+                this.downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void request(final long amount) {
+            this.upstream.request(amount);
+        }
+
+        @Override
+        public void cancel() {
+            this.upstream.cancel();
+        }
+    }
+}
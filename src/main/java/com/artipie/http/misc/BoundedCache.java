@@ -0,0 +1,221 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded concurrent cache with optional time to live of entries.
+ * <p>
+ * When the cache is full, the oldest inserted entry is evicted, so eviction
+ * doesn't depend on hash order. Size bound holds when put returns: the
+ * inserting thread evicts entries until the cache fits. Expired entries are
+ * removed on lookup or evicted as other keys. Cache of zero size keeps
+ * nothing. Cache doesn't use locks.
+ * </p>
+ * @param <K> Key type
+ * @param <V> Value type
+ * @since 1.0
+ */
+public final class BoundedCache<K, V> {
+
+    /**
+     * Max number of entries.
+     */
+    private final int size;
+
+    /**
+     * Time to live of entry in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Entries by key.
+     */
+    private final ConcurrentMap<K, Entry<K, V>> entries;
+
+    /**
+     * Entries in insertion order, entries which were replaced or removed
+     * stay in the queue until they are polled.
+     */
+    private final Queue<Entry<K, V>> order;
+
+    /**
+     * Number of entries.
+     */
+    private final AtomicInteger count;
+
+    /**
+     * Number of queued entries.
+     */
+    private final AtomicInteger queued;
+
+    /**
+     * Cache without entries expiration.
+     * @param size Max number of entries
+     */
+    public BoundedCache(final int size) {
+        this(Duration.ofNanos(Long.MAX_VALUE), size);
+    }
+
+    /**
+     * Ctor.
+     * @param ttl Time to live of entry
+     * @param size Max number of entries
+     */
+    public BoundedCache(final Duration ttl, final int size) {
+        this.size = size;
+        this.ttl = ttl.toNanos();
+        this.entries = new ConcurrentHashMap<>();
+        this.order = new ConcurrentLinkedQueue<>();
+        this.count = new AtomicInteger();
+        this.queued = new AtomicInteger();
+    }
+
+    /**
+     * Find value by key.
+     * @param key Key
+     * @return Value or empty if not found or expired
+     */
+    public Optional<V> get(final K key) {
+        Optional<V> res = Optional.empty();
+        final Entry<K, V> entry = this.entries.get(key);
+        if (entry != null) {
+            if (System.nanoTime() - entry.created < this.ttl) {
+                res = Optional.of(entry.value);
+            } else {
+                this.remove(key, entry);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Put value, evict the oldest entries if cache is full.
+     * @param key Key
+     * @param value Value
+     */
+    public void put(final K key, final V value) {
+        if (this.size > 0) {
+            final Entry<K, V> entry = new Entry<>(key, value, System.nanoTime());
+            if (this.entries.put(key, entry) == null) {
+                this.count.incrementAndGet();
+            }
+            this.order.add(entry);
+            this.queued.incrementAndGet();
+            this.evict();
+        }
+    }
+
+    /**
+     * Remove entry if key is mapped to the value.
+     * @param key Key
+     * @param value Value
+     */
+    public void remove(final K key, final V value) {
+        final Entry<K, V> entry = this.entries.get(key);
+        if (entry != null && entry.value.equals(value)) {
+            this.remove(key, entry);
+        }
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        for (final K key : this.entries.keySet()) {
+            if (this.entries.remove(key) != null) {
+                this.count.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Number of entries.
+     * @return Number of entries including expired ones which were not removed yet
+     */
+    public int size() {
+        return this.count.get();
+    }
+
+    /**
+     * Remove entry.
+     * @param key Key
+     * @param entry Entry
+     */
+    private void remove(final K key, final Entry<K, V> entry) {
+        if (this.entries.remove(key, entry)) {
+            this.count.decrementAndGet();
+        }
+    }
+
+    /**
+     * Evict the oldest entries while cache is over size, and drop replaced or
+     * removed entries from the queue while it's longer than twice the size.
+     * Current entry polled only to shorten the queue is queued again.
+     */
+    private void evict() {
+        boolean more = true;
+        while (more && (this.count.get() > this.size
+            || this.queued.get() > 2L * this.size)) {
+            final Entry<K, V> head = this.order.poll();
+            if (head == null) {
+                more = false;
+            } else {
+                this.queued.decrementAndGet();
+                if (this.entries.get(head.key) == head) {
+                    if (this.count.get() > this.size) {
+                        this.remove(head.key, head);
+                    } else {
+                        this.order.add(head);
+                        this.queued.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Cache entry.
+     * @param <K> Key type
+     * @param <V> Value type
+     * @since 1.0
+     */
+    private static final class Entry<K, V> {
+
+        /**
+         * Key.
+         */
+        private final K key;
+
+        /**
+         * Value.
+         */
+        private final V value;
+
+        /**
+         * Creation time in nanoseconds.
+         */
+        private final long created;
+
+        /**
+         * Ctor.
+         * @param key Key
+         * @param value Value
+         * @param created Creation time in nanoseconds
+         */
+        Entry(final K key, final V value, final long created) {
+            this.key = key;
+            this.value = value;
+            this.created = created;
+        }
+    }
+}
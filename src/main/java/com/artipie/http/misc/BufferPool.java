@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of scratch byte arrays.
+ * <p>
+ * Arrays taken from pool are working memory of stream transformations
+ * (compression, decompression, serialization), they should never be passed
+ * downstream as is: data is copied out of the array before emitting.
+ * If the pool is empty new array is allocated, if the pool is full
+ * released array is dropped.
+ * </p>
+ * @since 1.0
+ */
+public final class BufferPool {
+
+    /**
+     * Shared pool of 8Kb arrays.
+     */
+    public static final BufferPool SHARED = new BufferPool(1024 * 8, 64);
+
+    /**
+     * Size of array.
+     */
+    private final int size;
+
+    /**
+     * Free arrays.
+     */
+    private final BlockingQueue<byte[]> free;
+
+    /**
+     * New pool.
+     * @param size Size of each array
+     * @param cap Max amount of free arrays to keep
+     */
+    public BufferPool(final int size, final int cap) {
+        this.size = size;
+        this.free = new ArrayBlockingQueue<>(cap);
+    }
+
+    /**
+     * Take array from pool or allocate new one.
+     * @return Byte array of pool size
+     */
+    public byte[] take() {
+        byte[] arr = this.free.poll();
+        if (arr == null) {
+            arr = new byte[this.size];
+        }
+        return arr;
+    }
+
+    /**
+     * Return array back to pool.
+     * @param arr Array taken from this pool
+     */
+    public void release(final byte[] arr) {
+        if (arr.length == this.size) {
+            this.free.offer(arr);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import com.artipie.asto.Content;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Content fully materialized in memory buffers.
+ * <p>
+ * Connection implementations may check body for this type and write
+ * {@link #buffers()} directly without subscribing to the body publisher.
+ * Each subscriber and each {@link #buffers()} call gets own buffer duplicates,
+ * so the content can be sent many times. Buffers should not be modified after
+ * the content is created.
+ * </p>
+ * @since 1.0
+ */
+public final class BufferedContent implements Content {
+
+    /**
+     * Buffers.
+     */
+    private final ByteBuffer[] bufs;
+
+    /**
+     * Total size.
+     */
+    private final long total;
+
+    /**
+     * Content of byte array.
+     * @param bytes Bytes
+     */
+    public BufferedContent(final byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Content of buffers.
+     * @param bufs Buffers
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    public BufferedContent(final ByteBuffer... bufs) {
+        this.bufs = bufs;
+        long size = 0;
+        for (final ByteBuffer buf : bufs) {
+            size += buf.remaining();
+        }
+        this.total = size;
+    }
+
+    /**
+     * Body buffers.
+     * @return Duplicates of buffers in publishing order
+     */
+    public List<ByteBuffer> buffers() {
+        final List<ByteBuffer> res = new ArrayList<>(this.bufs.length);
+        for (final ByteBuffer buf : this.bufs) {
+            res.add(buf.duplicate());
+        }
+        return Collections.unmodifiableList(res);
+    }
+
+    @Override
+    public Optional<Long> size() {
+        return Optional.of(this.total);
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> sub) {
+        final ByteBuffer[] dups = new ByteBuffer[this.bufs.length];
+        for (int idx = 0; idx < dups.length; ++idx) {
+            dups[idx] = this.bufs[idx].duplicate();
+        }
+        new Bodies.Array(dups).subscribe(sub);
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publisher which coalesces small chunks of origin publisher into larger ones.
+ * <p>
+ * Chunks smaller than target size are copied into accumulator, the accumulator
+ * is published when it reaches target size, when origin publisher completes or when
+ * it keeps data longer than flush latency. Chunks of target size or larger are
+ * published as is (after accumulated data). Origin is requested one chunk at time,
+ * so at most target size plus one chunk is kept in memory.
+ * </p>
+ * @since 1.0
+ */
+public final class Coalesced implements Publisher<ByteBuffer> {
+
+    /**
+     * Origin publisher.
+     */
+    private final Publisher<ByteBuffer> origin;
+
+    /**
+     * Target chunk size.
+     */
+    private final int size;
+
+    /**
+     * Flush latency.
+     */
+    private final Duration latency;
+
+    /**
+     * Scheduler for flush timer.
+     */
+    private final Scheduler scheduler;
+
+    /**
+     * Coalesced publisher.
+     * @param origin Origin publisher
+     * @param size Target chunk size
+     * @param latency Max time to keep data in accumulator
+     */
+    public Coalesced(final Publisher<ByteBuffer> origin, final int size,
+        final Duration latency) {
+        this(origin, size, latency, Schedulers.computation());
+    }
+
+    /**
+     * Primary ctor.
+     * @param origin Origin publisher
+     * @param size Target chunk size
+     * @param latency Max time to keep data in accumulator
+     * @param scheduler Scheduler for flush timer
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Coalesced(final Publisher<ByteBuffer> origin, final int size,
+        final Duration latency, final Scheduler scheduler) {
+        this.origin = origin;
+        this.size = size;
+        this.latency = latency;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> sub) {
+        this.origin.subscribe(new CoalescingSubscriber(sub, this));
+    }
+
+    /**
+     * Subscriber which coalesces chunks.
+     * @since 1.0
+     * @checkstyle ClassFanOutComplexityCheck (300 lines)
+     */
+    private static final class CoalescingSubscriber implements Subscriber<ByteBuffer>,
+        Subscription {
+
+        /**
+         * Downstream.
+         */
+        private final Subscriber<? super ByteBuffer> downstream;
+
+        /**
+         * Settings.
+         */
+        private final Coalesced cfg;
+
+        /**
+         * Chunks ready to publish.
+         */
+        private final Queue<ByteBuffer> ready;
+
+        /**
+         * Downstream demand.
+         */
+        private final AtomicLong demand;
+
+        /**
+         * Drain work in progress counter.
+         */
+        private final AtomicInteger wip;
+
+        /**
+         * Upstream chunk was requested and not received yet.
+         */
+        private final AtomicBoolean requested;
+
+        /**
+         * Accumulator lock.
+         */
+        private final Object lock;
+
+        /**
+         * Accumulator.
+         */
+        private ByteBuffer acc;
+
+        /**
+         * Scheduled flush.
+         */
+        private Disposable timer;
+
+        /**
+         * Upstream subscription.
+         */
+        private volatile Subscription upstream;
+
+        /**
+         * Upstream is done.
+         */
+        private volatile boolean done;
+
+        /**
+         * Upstream error.
+         */
+        private volatile Throwable error;
+
+        /**
+         * Cancelled by downstream.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Ctor.
+         * @param downstream Downstream
+         * @param cfg Settings
+         */
+        CoalescingSubscriber(final Subscriber<? super ByteBuffer> downstream,
+            final Coalesced cfg) {
+            this.downstream = downstream;
+            this.cfg = cfg;
+            this.ready = new ConcurrentLinkedQueue<>();
+            this.demand = new AtomicLong();
+            this.wip = new AtomicInteger();
+            this.requested = new AtomicBoolean();
+            this.lock = new Object();
+        }
+
+        @Override
+        public void onSubscribe(final Subscription sub) {
+            this.upstream = sub;
+            this.downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(final ByteBuffer chunk) {
+            synchronized (this.lock) {
+                if (chunk.remaining() >= this.cfg.size) {
+                    this.flush();
+                    this.ready.add(chunk);
+                } else {
+                    if (this.acc != null && this.acc.remaining() < chunk.remaining()) {
+                        this.flush();
+                    }
+                    if (this.acc == null) {
+                        this.acc = ByteBuffer.allocate(this.cfg.size);
+                        this.timer = this.cfg.scheduler.scheduleDirect(
+                            this::onTimer, this.cfg.latency.toNanos(), TimeUnit.NANOSECONDS
+                        );
+                    }
+                    this.acc.put(chunk);
+                    if (!this.acc.hasRemaining()) {
+                        this.flush();
+                    }
+                }
+            }
+            this.requested.set(false);
+            this.drain();
+        }
+
+        @Override
+        public void onError(final Throwable err) {
+            this.fail(err);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this.lock) {
+                this.flush();
+            }
+            this.done = true;
+            this.drain();
+        }
+
+        @Override
+        public void request(final long amount) {
+            if (amount <= 0) {
+                this.upstream.cancel();
+                synchronized (this.lock) {
+                    this.dispose();
+                }
+                this.fail(new IllegalArgumentException("Requested amount should be positive"));
+            } else {
+                this.demand.getAndAccumulate(
+                    amount,
+                    (cur, add) -> {
+                        final long res;
+                        if (Long.MAX_VALUE - cur < add) {
+                            res = Long.MAX_VALUE;
+                        } else {
+                            res = cur + add;
+                        }
+                        return res;
+                    }
+                );
+                this.drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.upstream.cancel();
+            synchronized (this.lock) {
+                this.dispose();
+            }
+            this.ready.clear();
+        }
+
+        /**
+         * Fail with the first error, error is published by drain loop.
+         * @param err Error
+         */
+        private void fail(final Throwable err) {
+            synchronized (this.lock) {
+                if (this.error == null) {
+                    this.error = err;
+                }
+            }
+            this.done = true;
+            this.drain();
+        }
+
+        /**
+         * Flush timer fired.
+         */
+        private void onTimer() {
+            synchronized (this.lock) {
+                this.flush();
+            }
+            this.drain();
+        }
+
+        /**
+         * Move accumulator to ready queue, should be called under the lock.
+         */
+        @SuppressWarnings("PMD.NullAssignment")
+        private void flush() {
+            if (this.acc != null) {
+                this.acc.flip();
+                this.ready.add(this.acc);
+                this.acc = null;
+                this.dispose();
+            }
+        }
+
+        /**
+         * Dispose flush timer, should be called under the lock.
+         */
+        @SuppressWarnings("PMD.NullAssignment")
+        private void dispose() {
+            if (this.timer != null) {
+                this.timer.dispose();
+                this.timer = null;
+            }
+        }
+
+        /**
+         * Publish ready chunks and request next chunk from upstream.
+         * @checkstyle CyclomaticComplexityCheck (40 lines)
+         */
+        @SuppressWarnings("PMD.CognitiveComplexity")
+        private void drain() {
+            if (this.wip.getAndIncrement() == 0) {
+                int missed = 1;
+                while (missed != 0 && !this.cancelled) {
+                    if (this.error != null) {
+                        this.ready.clear();
+                        this.downstream.onError(this.error);
+                        this.cancelled = true;
+                        break;
+                    }
+                    while (this.demand.get() > 0 && !this.ready.isEmpty()) {
+                        this.demand.decrementAndGet();
+                        this.downstream.onNext(this.ready.poll());
+                    }
+                    if (this.ready.isEmpty()) {
+                        if (this.done) {
+                            this.downstream.onComplete();
+                            this.cancelled = true;
+                            break;
+                        }
+                        if (this.requested.compareAndSet(false, true)) {
+                            this.upstream.request(1);
+                        }
+                    }
+                    missed = this.wip.addAndGet(-missed);
+                }
+            }
+        }
+    }
+}
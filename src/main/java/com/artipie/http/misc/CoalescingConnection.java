@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.rs.RsStatus;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import org.reactivestreams.Publisher;
+
+/**
+ * Connection which coalesces small chunks of response body before writing.
+ * <p>
+ * Decorates connection with {@link Coalesced} body, so the origin connection
+ * writes fewer larger chunks instead of many small ones. Large chunks are passed
+ * as is. Known body size is preserved,
+ * {@link BufferedContent} body is passed to origin connection untouched.
+ * </p>
+ * @since 1.0
+ */
+public final class CoalescingConnection implements Connection {
+
+    /**
+     * Default target chunk size.
+     */
+    private static final int SIZE = 1024 * 16;
+
+    /**
+     * Default flush latency.
+     */
+    private static final Duration LATENCY = Duration.ofMillis(5);
+
+    /**
+     * Origin connection.
+     */
+    private final Connection origin;
+
+    /**
+     * Target chunk size.
+     */
+    private final int size;
+
+    /**
+     * Flush latency.
+     */
+    private final Duration latency;
+
+    /**
+     * Coalescing connection with default settings.
+     * @param origin Origin connection
+     */
+    public CoalescingConnection(final Connection origin) {
+        this(origin, CoalescingConnection.SIZE, CoalescingConnection.LATENCY);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Origin connection
+     * @param size Target chunk size
+     * @param latency Max time to keep small chunks before writing
+     */
+    public CoalescingConnection(final Connection origin, final int size,
+        final Duration latency) {
+        this.origin = origin;
+        this.size = size;
+        this.latency = latency;
+    }
+
+    @Override
+    public CompletionStage<Void> accept(
+        final RsStatus status,
+        final Headers headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final Publisher<ByteBuffer> res;
+        if (body instanceof BufferedContent) {
+            res = body;
+        } else if (body instanceof Content) {
+            res = new Content.From(
+                ((Content) body).size(), new Coalesced(body, this.size, this.latency)
+            );
+        } else {
+            res = new Coalesced(body, this.size, this.latency);
+        }
+        return this.origin.accept(status, headers, res);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.reactivestreams.Publisher;
+
+/**
+ * HTTP content coding.
+ * See <a href="https://www.rfc-editor.org/rfc/rfc7231#section-3.1.2.1">RFC 7231 3.1.2.1</a>.
+ * @since 1.0
+ */
+public enum ContentCoding {
+
+    /**
+     * Gzip coding.
+     */
+    GZIP("gzip", "gz", true),
+
+    /**
+     * Deflate (zlib) coding.
+     */
+    DEFLATE("deflate", "zz", false);
+
+    /**
+     * Coding token.
+     */
+    private final String token;
+
+    /**
+     * File extension.
+     */
+    private final String ext;
+
+    /**
+     * Gzip format.
+     */
+    private final boolean gzip;
+
+    /**
+     * Ctor.
+     * @param token Coding token
+     * @param ext File extension
+     * @param gzip Gzip format
+     */
+    ContentCoding(final String token, final String ext, final boolean gzip) {
+        this.token = token;
+        this.ext = ext;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Coding token as used in {@code Content-Encoding} and {@code Accept-Encoding} headers.
+     * @return Token string
+     */
+    public String token() {
+        return this.token;
+    }
+
+    /**
+     * File name extension of encoded file without leading dot.
+     * @return Extension string
+     */
+    public String extension() {
+        return this.ext;
+    }
+
+    /**
+     * Encode body publisher chunk by chunk.
+     * @param body Origin body
+     * @return Encoded body
+     */
+    public Publisher<ByteBuffer> encode(final Publisher<ByteBuffer> body) {
+        return Flowable.using(
+            () -> new DeflateChunks(this.gzip, BufferPool.SHARED),
+            enc -> Flowable.fromPublisher(body)
+                .map(enc::push)
+                .concatWith(Flowable.fromCallable(enc::finish))
+                .filter(ByteBuffer::hasRemaining),
+            DeflateChunks::close
+        );
+    }
+
+    /**
+     * Decode body publisher chunk by chunk.
+     * <p>
+     * Decoded data of each encoded chunk is emitted in bounded slices on
+     * demand. Decoded body fails with {@link com.artipie.http.ArtipieHttpException}
+     * if encoded data is malformed or decoded size exceeds the limit.
+     * </p>
+     * @param body Encoded body
+     * @param limit Max decoded size in bytes
+     * @return Decoded body
+     */
+    public Publisher<ByteBuffer> decode(final Publisher<ByteBuffer> body, final long limit) {
+        return Flowable.using(
+            () -> new InflateChunks(this.gzip, limit, BufferPool.SHARED),
+            dec -> Flowable.fromPublisher(body)
+                .concatMap(
+                    chunk -> Flowable.<ByteBuffer>generate(
+                        emitter -> {
+                            final ByteBuffer next = dec.next(chunk);
+                            if (next.hasRemaining()) {
+                                emitter.onNext(next);
+                            } else {
+                                emitter.onComplete();
+                            }
+                        }
+                    )
+                )
+                .concatWith(Flowable.<ByteBuffer>empty().doOnComplete(dec::finish)),
+            InflateChunks::close
+        );
+    }
+
+    /**
+     * Find coding by token.
+     * @param token Coding token, case insensitive
+     * @return Coding if supported
+     */
+    public static Optional<ContentCoding> byToken(final String token) {
+        final String norm = token.trim().toLowerCase(Locale.US);
+        return Stream.of(ContentCoding.values())
+            .filter(coding -> coding.token.equals(norm))
+            .findFirst();
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Chunk by chunk deflate encoder.
+ * <p>
+ * Each pushed chunk is compressed into new buffer which contains all output
+ * produced by deflater for this chunk, the output may be empty if deflater
+ * keeps the data in its internal state. Finish call flushes remaining data
+ * and writes trailer (for gzip format).
+ * </p>
+ * <p>
+ * Chunks are pushed by one thread, but encoder may be closed by another one,
+ * e.g. on cancel. Scratch buffers are returned to pool and deflater is ended
+ * only after the push in progress finished, chunks pushed after close produce
+ * no output.
+ * </p>
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@NotThreadSafe
+final class DeflateChunks implements Closeable {
+
+    /**
+     * Gzip member header: magic, deflate method, no flags, no mtime, unknown OS.
+     */
+    private static final byte[] GZIP_HEADER = {
+        (byte) 0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff,
+    };
+
+    /**
+     * Encoder is open and not used.
+     */
+    private static final int IDLE = 0;
+
+    /**
+     * Encoder is used by push or finish.
+     */
+    private static final int BUSY = 1;
+
+    /**
+     * Encoder was closed while it was used.
+     */
+    private static final int CLOSING = 2;
+
+    /**
+     * Encoder is closed.
+     */
+    private static final int CLOSED = 3;
+
+    /**
+     * Deflater.
+     */
+    private final Deflater deflater;
+
+    /**
+     * Gzip format flag, zlib format is used otherwise.
+     */
+    private final boolean gzip;
+
+    /**
+     * Checksum of uncompressed data for gzip trailer.
+     */
+    private final CRC32 crc;
+
+    /**
+     * Buffers pool.
+     */
+    private final BufferPool pool;
+
+    /**
+     * Deflater output scratch array.
+     */
+    private final byte[] out;
+
+    /**
+     * Input scratch array to copy direct buffers.
+     */
+    private final byte[] in;
+
+    /**
+     * Output accumulator.
+     */
+    private final ByteArrayOutputStream sink;
+
+    /**
+     * Encoder state.
+     */
+    private final AtomicInteger state;
+
+    /**
+     * Header was written.
+     */
+    private boolean started;
+
+    /**
+     * New encoder.
+     * @param gzip Use gzip format if true, zlib format otherwise
+     * @param pool Scratch buffers pool
+     */
+    DeflateChunks(final boolean gzip, final BufferPool pool) {
+        this.gzip = gzip;
+        this.pool = pool;
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, gzip);
+        this.crc = new CRC32();
+        this.out = pool.take();
+        this.in = pool.take();
+        this.sink = new ByteArrayOutputStream(this.out.length);
+        this.state = new AtomicInteger(DeflateChunks.IDLE);
+    }
+
+    /**
+     * Compress next chunk.
+     * @param chunk Uncompressed data
+     * @return Compressed data, may be empty
+     */
+    ByteBuffer push(final ByteBuffer chunk) {
+        ByteBuffer res = ByteBuffer.allocate(0);
+        if (this.enter()) {
+            try {
+                this.start();
+                if (chunk.hasArray()) {
+                    final int off = chunk.arrayOffset() + chunk.position();
+                    final int len = chunk.remaining();
+                    this.deflate(chunk.array(), off, len);
+                    chunk.position(chunk.limit());
+                } else {
+                    while (chunk.hasRemaining()) {
+                        final int len = Math.min(chunk.remaining(), this.in.length);
+                        chunk.get(this.in, 0, len);
+                        this.deflate(this.in, 0, len);
+                    }
+                }
+                res = this.drain();
+            } finally {
+                this.exit();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Finish compression.
+     * @return Last part of compressed data including trailer
+     */
+    ByteBuffer finish() {
+        ByteBuffer res = ByteBuffer.allocate(0);
+        if (this.enter()) {
+            try {
+                this.start();
+                this.deflater.finish();
+                while (!this.deflater.finished()) {
+                    this.sink.write(this.out, 0, this.deflater.deflate(this.out));
+                }
+                if (this.gzip) {
+                    DeflateChunks.writeInt(this.sink, (int) this.crc.getValue());
+                    DeflateChunks.writeInt(this.sink, (int) this.deflater.getBytesRead());
+                }
+                res = this.drain();
+            } finally {
+                this.exit();
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public void close() {
+        boolean done = false;
+        while (!done) {
+            final int cur = this.state.get();
+            if (cur == DeflateChunks.IDLE) {
+                done = this.state.compareAndSet(DeflateChunks.IDLE, DeflateChunks.CLOSED);
+                if (done) {
+                    this.release();
+                }
+            } else if (cur == DeflateChunks.BUSY) {
+                done = this.state.compareAndSet(DeflateChunks.BUSY, DeflateChunks.CLOSING);
+            } else {
+                done = true;
+            }
+        }
+    }
+
+    /**
+     * Start using encoder.
+     * @return True if encoder is open
+     */
+    private boolean enter() {
+        return this.state.compareAndSet(DeflateChunks.IDLE, DeflateChunks.BUSY);
+    }
+
+    /**
+     * Stop using encoder, release it if it was closed meanwhile.
+     */
+    private void exit() {
+        if (!this.state.compareAndSet(DeflateChunks.BUSY, DeflateChunks.IDLE)) {
+            this.state.set(DeflateChunks.CLOSED);
+            this.release();
+        }
+    }
+
+    /**
+     * End deflater and return scratch buffers to pool.
+     */
+    private void release() {
+        this.deflater.end();
+        this.pool.release(this.out);
+        this.pool.release(this.in);
+    }
+
+    /**
+     * Deflate input array range.
+     * @param arr Array
+     * @param off Offset
+     * @param len Length
+     */
+    private void deflate(final byte[] arr, final int off, final int len) {
+        if (this.gzip) {
+            this.crc.update(arr, off, len);
+        }
+        this.deflater.setInput(arr, off, len);
+        while (!this.deflater.needsInput()) {
+            this.sink.write(this.out, 0, this.deflater.deflate(this.out));
+        }
+    }
+
+    /**
+     * Write gzip header once.
+     */
+    private void start() {
+        if (!this.started) {
+            this.started = true;
+            if (this.gzip) {
+                this.sink.write(DeflateChunks.GZIP_HEADER, 0, DeflateChunks.GZIP_HEADER.length);
+            }
+        }
+    }
+
+    /**
+     * Drain accumulated output.
+     * @return Buffer with output
+     */
+    private ByteBuffer drain() {
+        final ByteBuffer res = ByteBuffer.wrap(this.sink.toByteArray());
+        this.sink.reset();
+        return res;
+    }
+
+    /**
+     * Write little-endian int.
+     * @param sink Output
+     * @param val Value
+     */
+    private static void writeInt(final ByteArrayOutputStream sink, final int val) {
+        sink.write(val & 0xff);
+        sink.write((val >> 8) & 0xff);
+        sink.write((val >> 16) & 0xff);
+        sink.write((val >> 24) & 0xff);
+    }
+}
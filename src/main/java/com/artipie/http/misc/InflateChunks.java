@@ -0,0 +1,498 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import com.artipie.http.ArtipieHttpException;
+import com.artipie.http.rs.RsStatus;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Chunk by chunk inflate decoder.
+ * <p>
+ * Output of each pushed chunk is pulled in slices of scratch array size,
+ * so highly compressed chunk is not decompressed into memory at once: the
+ * chunk is pulled by {@link #next(ByteBuffer)} until it returns empty buffer.
+ * Gzip member header is parsed before inflating, gzip trailer checksum and size
+ * are verified, concatenated gzip members are decoded one after another. Data
+ * after the end of zlib stream, malformed data and data exceeding decompressed
+ * size limit are reported with {@link ArtipieHttpException}.
+ * </p>
+ * <p>
+ * Chunks are pulled by one thread, but decoder may be closed by another one,
+ * e.g. on cancel. Scratch buffers are returned to pool and inflater is ended
+ * only after the pull in progress finished, chunks pulled after close produce
+ * no output.
+ * </p>
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@NotThreadSafe
+@SuppressWarnings("PMD.TooManyFields")
+final class InflateChunks implements Closeable {
+
+    /**
+     * Gzip header extra field flag.
+     */
+    private static final int FEXTRA = 4;
+
+    /**
+     * Gzip header file name flag.
+     */
+    private static final int FNAME = 8;
+
+    /**
+     * Gzip header comment flag.
+     */
+    private static final int FCOMMENT = 16;
+
+    /**
+     * Gzip header CRC flag.
+     */
+    private static final int FHCRC = 2;
+
+    /**
+     * Max number of bytes copied to gzip header accumulator at once.
+     */
+    private static final int HEADER_BLOCK = 512;
+
+    /**
+     * Gzip trailer size.
+     */
+    private static final int TRAILER_SIZE = 8;
+
+    /**
+     * Decoder is open and not used.
+     */
+    private static final int IDLE = 0;
+
+    /**
+     * Decoder is used by pull or finish.
+     */
+    private static final int BUSY = 1;
+
+    /**
+     * Decoder was closed while it was used.
+     */
+    private static final int CLOSING = 2;
+
+    /**
+     * Decoder is closed.
+     */
+    private static final int CLOSED = 3;
+
+    /**
+     * Gzip member header is being read.
+     */
+    private static final int HEADER = 0;
+
+    /**
+     * Compressed data is being inflated.
+     */
+    private static final int BODY = 1;
+
+    /**
+     * Gzip member trailer is being read.
+     */
+    private static final int TRAILER = 2;
+
+    /**
+     * Zlib stream is complete.
+     */
+    private static final int DONE = 3;
+
+    /**
+     * Inflater.
+     */
+    private final Inflater inflater;
+
+    /**
+     * Gzip format flag, zlib format is used otherwise.
+     */
+    private final boolean gzip;
+
+    /**
+     * Decompressed size limit.
+     */
+    private final long limit;
+
+    /**
+     * Buffers pool.
+     */
+    private final BufferPool pool;
+
+    /**
+     * Inflater output scratch array.
+     */
+    private final byte[] out;
+
+    /**
+     * Input scratch array to copy direct buffers.
+     */
+    private final byte[] in;
+
+    /**
+     * Checksum of decompressed data of gzip member.
+     */
+    private final CRC32 crc;
+
+    /**
+     * Gzip header accumulator.
+     */
+    private final ByteArrayOutputStream header;
+
+    /**
+     * Gzip trailer accumulator.
+     */
+    private final byte[] trailer;
+
+    /**
+     * Decoder state.
+     */
+    private final AtomicInteger state;
+
+    /**
+     * Stream phase, gzip stream starts with header, zlib stream with body.
+     */
+    private int phase;
+
+    /**
+     * Current input array.
+     */
+    private byte[] src;
+
+    /**
+     * Position of the first input byte which was not consumed yet.
+     */
+    private int pos;
+
+    /**
+     * End of input.
+     */
+    private int end;
+
+    /**
+     * Number of accumulated trailer bytes.
+     */
+    private int tail;
+
+    /**
+     * Number of decoded gzip members.
+     */
+    private int members;
+
+    /**
+     * Total decompressed bytes.
+     */
+    private long total;
+
+    /**
+     * New decoder.
+     * @param gzip Use gzip format if true, zlib format otherwise
+     * @param limit Max decompressed size
+     * @param pool Scratch buffers pool
+     */
+    InflateChunks(final boolean gzip, final long limit, final BufferPool pool) {
+        this.gzip = gzip;
+        this.limit = limit;
+        this.pool = pool;
+        this.inflater = new Inflater(gzip);
+        this.out = pool.take();
+        this.in = pool.take();
+        this.crc = new CRC32();
+        this.header = new ByteArrayOutputStream(32);
+        this.trailer = new byte[InflateChunks.TRAILER_SIZE];
+        this.state = new AtomicInteger(InflateChunks.IDLE);
+        this.src = this.in;
+        if (!gzip) {
+            this.phase = InflateChunks.BODY;
+        }
+    }
+
+    /**
+     * Pull next slice of decompressed data of the chunk.
+     * @param chunk Compressed data
+     * @return Decompressed data or empty buffer if chunk was consumed
+     */
+    ByteBuffer next(final ByteBuffer chunk) {
+        ByteBuffer res = ByteBuffer.allocate(0);
+        if (this.enter()) {
+            try {
+                int size = 0;
+                boolean more = true;
+                while (size == 0 && more) {
+                    if (this.phase == InflateChunks.BODY && !this.inflater.needsInput()) {
+                        size = this.inflate();
+                    } else if (this.pos < this.end) {
+                        this.consume();
+                    } else if (chunk.hasRemaining()) {
+                        this.load(chunk);
+                    } else {
+                        more = false;
+                    }
+                }
+                if (size > 0) {
+                    res = ByteBuffer.wrap(Arrays.copyOf(this.out, size));
+                }
+            } finally {
+                this.exit();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Verify that compressed stream is complete.
+     */
+    void finish() {
+        if (this.enter()) {
+            try {
+                final boolean complete;
+                if (this.gzip) {
+                    complete = this.phase == InflateChunks.HEADER
+                        && this.header.size() == 0 && this.members > 0;
+                } else {
+                    complete = this.phase == InflateChunks.DONE;
+                }
+                if (!complete) {
+                    throw new ArtipieHttpException(
+                        RsStatus.BAD_REQUEST, "Unexpected end of compressed stream"
+                    );
+                }
+            } finally {
+                this.exit();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        boolean done = false;
+        while (!done) {
+            final int cur = this.state.get();
+            if (cur == InflateChunks.IDLE) {
+                done = this.state.compareAndSet(InflateChunks.IDLE, InflateChunks.CLOSED);
+                if (done) {
+                    this.release();
+                }
+            } else if (cur == InflateChunks.BUSY) {
+                done = this.state.compareAndSet(InflateChunks.BUSY, InflateChunks.CLOSING);
+            } else {
+                done = true;
+            }
+        }
+    }
+
+    /**
+     * Start using decoder.
+     * @return True if decoder is open
+     */
+    private boolean enter() {
+        return this.state.compareAndSet(InflateChunks.IDLE, InflateChunks.BUSY);
+    }
+
+    /**
+     * Stop using decoder, release it if it was closed meanwhile.
+     */
+    private void exit() {
+        if (!this.state.compareAndSet(InflateChunks.BUSY, InflateChunks.IDLE)) {
+            this.state.set(InflateChunks.CLOSED);
+            this.release();
+        }
+    }
+
+    /**
+     * End inflater and return scratch buffers to pool.
+     */
+    private void release() {
+        this.inflater.end();
+        this.pool.release(this.out);
+        this.pool.release(this.in);
+    }
+
+    /**
+     * Take next input from chunk, direct buffers are copied to scratch array
+     * part by part.
+     * @param chunk Compressed data
+     */
+    private void load(final ByteBuffer chunk) {
+        if (chunk.hasArray()) {
+            this.src = chunk.array();
+            this.pos = chunk.arrayOffset() + chunk.position();
+            this.end = this.pos + chunk.remaining();
+            chunk.position(chunk.limit());
+        } else {
+            final int len = Math.min(chunk.remaining(), this.in.length);
+            chunk.get(this.in, 0, len);
+            this.src = this.in;
+            this.pos = 0;
+            this.end = len;
+        }
+    }
+
+    /**
+     * Consume input according to stream phase.
+     */
+    private void consume() {
+        if (this.phase == InflateChunks.HEADER) {
+            this.readHeader();
+        } else if (this.phase == InflateChunks.BODY) {
+            this.inflater.setInput(this.src, this.pos, this.end - this.pos);
+            this.pos = this.end;
+        } else if (this.phase == InflateChunks.TRAILER) {
+            this.readTrailer();
+        } else {
+            throw new ArtipieHttpException(
+                RsStatus.BAD_REQUEST, "Unexpected data after compressed stream"
+            );
+        }
+    }
+
+    /**
+     * Inflate next slice into output scratch array.
+     * @return Size of output
+     */
+    private int inflate() {
+        final int size;
+        try {
+            size = this.inflater.inflate(this.out);
+        } catch (final DataFormatException err) {
+            throw new ArtipieHttpException(RsStatus.BAD_REQUEST, err);
+        }
+        if (size == 0 && this.inflater.needsDictionary()) {
+            throw new ArtipieHttpException(
+                RsStatus.BAD_REQUEST, "Preset dictionary is not supported"
+            );
+        }
+        this.total += size;
+        if (this.total > this.limit) {
+            throw new ArtipieHttpException(
+                RsStatus.PAYLOAD_TOO_LARGE,
+                String.format("Decompressed size exceeds %d bytes", this.limit)
+            );
+        }
+        this.crc.update(this.out, 0, size);
+        if (this.inflater.finished()) {
+            this.pos = this.end - this.inflater.getRemaining();
+            if (this.gzip) {
+                this.phase = InflateChunks.TRAILER;
+                this.tail = 0;
+            } else {
+                this.phase = InflateChunks.DONE;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Read gzip member header, start inflating when it's complete.
+     */
+    private void readHeader() {
+        final int len = Math.min(this.end - this.pos, InflateChunks.HEADER_BLOCK);
+        this.header.write(this.src, this.pos, len);
+        this.pos += len;
+        final byte[] hdr = this.header.toByteArray();
+        final int size = InflateChunks.headerSize(hdr);
+        if (size >= 0) {
+            this.pos -= hdr.length - size;
+            this.header.reset();
+            this.inflater.reset();
+            this.crc.reset();
+            this.phase = InflateChunks.BODY;
+        }
+    }
+
+    /**
+     * Read gzip member trailer and verify it, expect next member after it.
+     */
+    private void readTrailer() {
+        final int len = Math.min(this.end - this.pos, InflateChunks.TRAILER_SIZE - this.tail);
+        System.arraycopy(this.src, this.pos, this.trailer, this.tail, len);
+        this.pos += len;
+        this.tail += len;
+        if (this.tail == InflateChunks.TRAILER_SIZE) {
+            if (InflateChunks.readInt(this.trailer, 0) != (int) this.crc.getValue()
+                || InflateChunks.readInt(this.trailer, 4)
+                != (int) this.inflater.getBytesWritten()) {
+                throw new ArtipieHttpException(
+                    RsStatus.BAD_REQUEST, "Corrupt gzip trailer"
+                );
+            }
+            this.members += 1;
+            this.phase = InflateChunks.HEADER;
+        }
+    }
+
+    /**
+     * Read little-endian int.
+     * @param arr Array
+     * @param off Offset
+     * @return Value
+     */
+    private static int readInt(final byte[] arr, final int off) {
+        return arr[off] & 0xff | (arr[off + 1] & 0xff) << 8
+            | (arr[off + 2] & 0xff) << 16 | (arr[off + 3] & 0xff) << 24;
+    }
+
+    /**
+     * Parse gzip member header size.
+     * @param hdr Header bytes
+     * @return Header size or -1 if more data is needed
+     * @checkstyle CyclomaticComplexityCheck (40 lines)
+     * @checkstyle NPathComplexityCheck (40 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static int headerSize(final byte[] hdr) {
+        int pos = -1;
+        if (hdr.length >= 10) {
+            if (hdr[0] != (byte) 0x1f || hdr[1] != (byte) 0x8b || hdr[2] != 8) {
+                throw new ArtipieHttpException(RsStatus.BAD_REQUEST, "Not in gzip format");
+            }
+            final int flags = hdr[3];
+            pos = 10;
+            if ((flags & InflateChunks.FEXTRA) != 0) {
+                if (hdr.length >= pos + 2) {
+                    pos += 2 + (hdr[pos] & 0xff | (hdr[pos + 1] & 0xff) << 8);
+                } else {
+                    pos = hdr.length + 1;
+                }
+            }
+            if ((flags & InflateChunks.FNAME) != 0) {
+                pos = InflateChunks.skipString(hdr, pos);
+            }
+            if ((flags & InflateChunks.FCOMMENT) != 0) {
+                pos = InflateChunks.skipString(hdr, pos);
+            }
+            if ((flags & InflateChunks.FHCRC) != 0) {
+                pos += 2;
+            }
+            if (pos > hdr.length) {
+                pos = -1;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Skip zero-terminated string.
+     * @param hdr Header bytes
+     * @param from Start position
+     * @return Position after the string or out of bounds position if not terminated
+     */
+    private static int skipString(final byte[] hdr, final int from) {
+        int pos = from;
+        while (pos < hdr.length && hdr[pos] != 0) {
+            ++pos;
+        }
+        return pos + 1;
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publisher of byte chunks written to output stream by writer.
+ * <p>
+ * Writer is started on executor for each subscriber, it writes into
+ * fixed size chunk and the chunk is published when it's full or when
+ * the writer is finished. Writer thread waits for downstream demand before
+ * publishing next chunk, so only one chunk is kept in memory regardless
+ * of total output size. Closing the stream publishes the last chunk.
+ * If subscription is cancelled, next chunk publishing fails with {@link IOException}.
+ * Non-positive request cancels the writer the same way and subscriber gets
+ * {@link IllegalArgumentException} as required by Reactive Streams rule 3.9.
+ * </p>
+ * <p>
+ * Since the writer thread waits for demand, writers run on dedicated thread
+ * pool by default, not in common pool, so subscribers which don't request
+ * can't starve other tasks. The pool is bounded: each writer holds a thread
+ * while it waits for slow subscriber, so writers over the pool size wait in
+ * queue until other writers finish instead of creating threads without limit.
+ * Custom executor may be provided instead.
+ * </p>
+ * @since 1.0
+ */
+public final class OutputStreamPublisher implements Publisher<ByteBuffer> {
+
+    /**
+     * Max number of writer threads of default executor.
+     */
+    private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+
+    /**
+     * Dedicated bounded executor of writers, threads are created on demand
+     * and stopped when idle, writers wait in queue if all threads are busy.
+     */
+    private static final Executor WRITERS = OutputStreamPublisher.writers();
+
+    /**
+     * Writer.
+     */
+    private final Writer writer;
+
+    /**
+     * Executor to run writer.
+     */
+    private final Executor exec;
+
+    /**
+     * Chunks pool.
+     */
+    private final BufferPool pool;
+
+    /**
+     * Publisher with writer running in dedicated thread pool.
+     * @param writer Writer
+     */
+    public OutputStreamPublisher(final Writer writer) {
+        this(writer, OutputStreamPublisher.WRITERS);
+    }
+
+    /**
+     * Publisher with writer running in executor.
+     * @param writer Writer
+     * @param exec Executor
+     */
+    public OutputStreamPublisher(final Writer writer, final Executor exec) {
+        this(writer, exec, BufferPool.SHARED);
+    }
+
+    /**
+     * Primary ctor.
+     * @param writer Writer
+     * @param exec Executor
+     * @param pool Chunks pool
+     */
+    public OutputStreamPublisher(final Writer writer, final Executor exec,
+        final BufferPool pool) {
+        this.writer = writer;
+        this.exec = exec;
+        this.pool = pool;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super ByteBuffer> sub) {
+        final ChunkStream stream = new ChunkStream(sub, this.pool);
+        sub.onSubscribe(stream);
+        this.exec.execute(
+            () -> {
+                try {
+                    this.writer.write(stream);
+                    stream.close();
+                    stream.complete();
+                } catch (final IOException | RuntimeException err) {
+                    stream.release();
+                    stream.fail(err);
+                }
+            }
+        );
+    }
+
+    /**
+     * Create default executor of writers.
+     * @return Executor
+     */
+    private static Executor writers() {
+        final ThreadPoolExecutor exec = new ThreadPoolExecutor(
+            OutputStreamPublisher.THREADS, OutputStreamPublisher.THREADS,
+            1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+            task -> {
+                final Thread thread = new Thread(
+                    task, OutputStreamPublisher.class.getSimpleName()
+                );
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        exec.allowCoreThreadTimeOut(true);
+        return exec;
+    }
+
+    /**
+     * Output writer.
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface Writer {
+
+        /**
+         * Write output.
+         * @param out Output stream
+         * @throws IOException On write error or if subscription was cancelled
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Output stream which publishes chunks to subscriber.
+     * @since 1.0
+     */
+    private static final class ChunkStream extends OutputStream
+        implements Subscription, ForkJoinPool.ManagedBlocker {
+
+        /**
+         * Subscriber.
+         */
+        private final Subscriber<? super ByteBuffer> sub;
+
+        /**
+         * Chunks pool.
+         */
+        private final BufferPool pool;
+
+        /**
+         * Demand lock.
+         */
+        private final Object lock;
+
+        /**
+         * Current chunk.
+         */
+        private byte[] chunk;
+
+        /**
+         * Chunk position.
+         */
+        private int pos;
+
+        /**
+         * Requested amount.
+         */
+        private long demand;
+
+        /**
+         * Cancelled flag.
+         */
+        private boolean cancelled;
+
+        /**
+         * Rule violation to signal instead of completion, null if none.
+         */
+        private IllegalArgumentException violation;
+
+        /**
+         * Ctor.
+         * @param sub Subscriber
+         * @param pool Chunks pool
+         */
+        ChunkStream(final Subscriber<? super ByteBuffer> sub, final BufferPool pool) {
+            super();
+            this.sub = sub;
+            this.pool = pool;
+            this.lock = new Object();
+            this.chunk = pool.take();
+        }
+
+        @Override
+        public void write(final int val) throws IOException {
+            this.chunk[this.pos] = (byte) val;
+            this.pos += 1;
+            if (this.pos == this.chunk.length) {
+                this.flushChunk();
+            }
+        }
+
+        @Override
+        public void write(final byte[] src, final int off, final int len) throws IOException {
+            int cur = off;
+            final int end = off + len;
+            while (cur < end) {
+                final int size = Math.min(end - cur, this.chunk.length - this.pos);
+                System.arraycopy(src, cur, this.chunk, this.pos, size);
+                this.pos += size;
+                cur += size;
+                if (this.pos == this.chunk.length) {
+                    this.flushChunk();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.chunk != null) {
+                try {
+                    this.flushChunk();
+                } finally {
+                    this.release();
+                }
+            }
+        }
+
+        @Override
+        public void request(final long amount) {
+            synchronized (this.lock) {
+                if (amount <= 0) {
+                    this.cancelled = true;
+                    if (this.violation == null) {
+                        this.violation = new IllegalArgumentException(
+                            String.format("Non-positive request %d (rule 3.9)", amount)
+                        );
+                    }
+                } else if (Long.MAX_VALUE - this.demand < amount) {
+                    this.demand = Long.MAX_VALUE;
+                } else {
+                    this.demand += amount;
+                }
+                this.lock.notifyAll();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this.lock) {
+                this.cancelled = true;
+                this.lock.notifyAll();
+            }
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            synchronized (this.lock) {
+                while (this.demand == 0 && !this.cancelled) {
+                    this.lock.wait();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            synchronized (this.lock) {
+                return this.demand > 0 || this.cancelled;
+            }
+        }
+
+        /**
+         * Publish current chunk when downstream is ready.
+         * @throws IOException If cancelled or interrupted
+         */
+        void flushChunk() throws IOException {
+            if (this.pos > 0) {
+                try {
+                    ForkJoinPool.managedBlock(this);
+                } catch (final InterruptedException err) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for demand");
+                }
+                synchronized (this.lock) {
+                    if (this.cancelled) {
+                        throw new IOException("Subscription was cancelled");
+                    }
+                    this.demand -= 1;
+                }
+                final ByteBuffer next = ByteBuffer.allocate(this.pos);
+                next.put(this.chunk, 0, this.pos);
+                next.flip();
+                this.pos = 0;
+                this.sub.onNext(next);
+            }
+        }
+
+        /**
+         * Release chunk back to pool, the stream can't be written after release.
+         */
+        @SuppressWarnings("PMD.NullAssignment")
+        void release() {
+            if (this.chunk != null) {
+                this.pool.release(this.chunk);
+                this.chunk = null;
+            }
+        }
+
+        /**
+         * Complete subscriber.
+         */
+        void complete() {
+            final Throwable err = this.violation();
+            if (err != null) {
+                this.sub.onError(err);
+            } else if (!this.isCancelled()) {
+                this.sub.onComplete();
+            }
+        }
+
+        /**
+         * Fail subscriber.
+         * @param err Error
+         */
+        void fail(final Throwable err) {
+            final Throwable invalid = this.violation();
+            if (invalid != null) {
+                this.sub.onError(invalid);
+            } else if (!this.isCancelled()) {
+                this.sub.onError(err);
+            }
+        }
+
+        /**
+         * Rule violation of subscriber.
+         * @return Error or null if subscriber didn't violate the rules
+         */
+        private Throwable violation() {
+            synchronized (this.lock) {
+                return this.violation;
+            }
+        }
+
+        /**
+         * Check cancelled flag.
+         * @return True if cancelled
+         */
+        private boolean isCancelled() {
+            synchronized (this.lock) {
+                return this.cancelled;
+            }
+        }
+    }
+}
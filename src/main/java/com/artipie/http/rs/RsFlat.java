@@ -0,0 +1,251 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rs;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.misc.BufferedContent;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import org.reactivestreams.Publisher;
+
+/**
+ * Flat response with status, headers and body.
+ * <p>
+ * Unlike stack of {@link RsWithStatus}, {@link RsWithHeaders} and {@link RsWithBody}
+ * decorators, this response keeps all parts in fields and accepts connection once
+ * without intermediate connection wrappers. Responses with status only or with
+ * in-memory body are immutable and can be created once and sent many times.
+ * Use {@link RsFlat.Builder} to create it.
+ * </p>
+ * @since 1.0
+ */
+public final class RsFlat implements Response {
+
+    /**
+     * Empty body.
+     */
+    private static final Content NO_BODY = new BufferedContent();
+
+    /**
+     * Status.
+     */
+    private final RsStatus status;
+
+    /**
+     * Headers.
+     */
+    private final Headers headers;
+
+    /**
+     * Body.
+     */
+    private final Publisher<ByteBuffer> body;
+
+    /**
+     * Response with status only.
+     * @param status Status
+     */
+    public RsFlat(final RsStatus status) {
+        this(status, new Flat(Collections.emptyList()), RsFlat.NO_BODY);
+    }
+
+    /**
+     * Primary ctor.
+     * @param status Status
+     * @param headers Headers
+     * @param body Body
+     */
+    private RsFlat(final RsStatus status, final Headers headers,
+        final Publisher<ByteBuffer> body) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public CompletionStage<Void> send(final Connection con) {
+        return con.accept(this.status, this.headers, this.body);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "(%s: status=%s, headers=%s, body=%s)",
+            this.getClass().getSimpleName(), this.status, this.headers, this.body
+        );
+    }
+
+    /**
+     * Flat response builder.
+     * <p>
+     * {@code Content-Length} header is added for bodies of known size.
+     * Builder is not thread safe.
+     * </p>
+     * @since 1.0
+     */
+    public static final class Builder {
+
+        /**
+         * Headers.
+         */
+        private final List<Map.Entry<String, String>> headers;
+
+        /**
+         * Status.
+         */
+        private RsStatus status;
+
+        /**
+         * Body.
+         */
+        private Publisher<ByteBuffer> body;
+
+        /**
+         * Body size if known.
+         */
+        private Optional<Long> size;
+
+        /**
+         * Builder of {@code 200} response without headers and body.
+         */
+        public Builder() {
+            this.headers = new ArrayList<>(4);
+            this.status = RsStatus.OK;
+            this.body = RsFlat.NO_BODY;
+            this.size = Optional.empty();
+        }
+
+        /**
+         * Set status.
+         * @param code Status
+         * @return Self
+         */
+        public Builder status(final RsStatus code) {
+            this.status = code;
+            return this;
+        }
+
+        /**
+         * Add header.
+         * @param name Header name
+         * @param value Header value
+         * @return Self
+         */
+        public Builder header(final String name, final String value) {
+            this.headers.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+            return this;
+        }
+
+        /**
+         * Add headers.
+         * @param all Headers
+         * @return Self
+         */
+        public Builder headers(final Iterable<Map.Entry<String, String>> all) {
+            for (final Map.Entry<String, String> header : all) {
+                this.header(header.getKey(), header.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Set text body.
+         * @param text Text
+         * @param charset Encoding
+         * @return Self
+         */
+        public Builder body(final CharSequence text, final Charset charset) {
+            return this.body(text.toString().getBytes(charset));
+        }
+
+        /**
+         * Set body bytes, the array should not be modified after.
+         * @param bytes Bytes
+         * @return Self
+         */
+        public Builder body(final byte[] bytes) {
+            return this.body(new BufferedContent(bytes));
+        }
+
+        /**
+         * Set body publisher.
+         * @param pub Publisher
+         * @return Self
+         */
+        public Builder body(final Publisher<ByteBuffer> pub) {
+            this.body = pub;
+            if (pub instanceof Content) {
+                this.size = ((Content) pub).size();
+            } else {
+                this.size = Optional.empty();
+            }
+            return this;
+        }
+
+        /**
+         * Build response.
+         * @return Response
+         */
+        public Response build() {
+            final List<Map.Entry<String, String>> all = new ArrayList<>(this.headers.size() + 1);
+            for (final Map.Entry<String, String> header : this.headers) {
+                if (!this.size.isPresent()
+                    || !ContentLength.NAME.equalsIgnoreCase(header.getKey())) {
+                    all.add(header);
+                }
+            }
+            this.size.ifPresent(
+                val -> all.add(
+                    new AbstractMap.SimpleImmutableEntry<>(ContentLength.NAME, String.valueOf(val))
+                )
+            );
+            return new RsFlat(
+                this.status, new Flat(Collections.unmodifiableList(all)), this.body
+            );
+        }
+    }
+
+    /**
+     * Headers backed by list.
+     * @since 1.0
+     */
+    private static final class Flat implements Headers {
+
+        /**
+         * Headers.
+         */
+        private final List<Map.Entry<String, String>> entries;
+
+        /**
+         * Ctor.
+         * @param entries Headers
+         */
+        Flat(final List<Map.Entry<String, String>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return this.entries.iterator();
+        }
+
+        @Override
+        public String toString() {
+            return this.entries.toString();
+        }
+    }
+}
@@ -88,6 +88,11 @@ public enum RsStatus {
      * Payload Too Large.
      */
     PAYLOAD_TOO_LARGE("413"),
+    /**
+     * Unsupported Media Type.
+     */
+    @SuppressWarnings("PMD.LongVariable")
+    UNSUPPORTED_MEDIA_TYPE("415"),
     /**
      * Requested Range Not Satisfiable.
      */
@@ -10,7 +10,7 @@ import com.artipie.http.Connection;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.headers.ContentLength;
-import io.reactivex.Flowable;
+import com.artipie.http.misc.BufferedContent;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Optional;
@@ -75,7 +75,7 @@ public final class RsWithBody implements Response {
      * @param buf Body buffer
      */
     public RsWithBody(final Response origin, final ByteBuffer buf) {
-        this(origin, new Content.From(Optional.of((long) buf.remaining()), Flowable.just(buf)));
+        this(origin, new BufferedContent(buf));
     }
 
     /**
@@ -7,8 +7,7 @@ package com.artipie.http.rs;
 import com.artipie.http.Connection;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
-import io.reactivex.Flowable;
-import java.nio.ByteBuffer;
+import com.artipie.http.misc.Bodies;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -19,7 +18,7 @@ public enum StandardRs implements Response {
     /**
      * Empty response.
      */
-    EMPTY(con -> con.accept(RsStatus.OK, Headers.EMPTY, Flowable.empty())),
+    EMPTY(con -> con.accept(RsStatus.OK, Headers.EMPTY, Bodies.EMPTY)),
     /**
      * OK 200 response.
      */
@@ -27,22 +26,20 @@ public enum StandardRs implements Response {
     /**
      * Success response without content.
      */
-    NO_CONTENT(new RsWithStatus(RsStatus.NO_CONTENT)),
+    NO_CONTENT(new RsFlat(RsStatus.NO_CONTENT)),
     /**
      * Not found response.
      */
-    NOT_FOUND(new RsWithStatus(RsStatus.NOT_FOUND)),
+    NOT_FOUND(new RsFlat(RsStatus.NOT_FOUND)),
     /**
      * Not found with json.
      */
     JSON_NOT_FOUND(
-        new RsWithBody(
-            new RsWithHeaders(
-                new RsWithStatus(RsStatus.NOT_FOUND),
-                new Headers.From("Content-Type", "application/json")
-            ),
-            ByteBuffer.wrap("{\"error\" : \"not found\"}".getBytes())
-        )
+        new RsFlat.Builder()
+            .status(RsStatus.NOT_FOUND)
+            .header("Content-Type", "application/json")
+            .body("{\"error\" : \"not found\"}".getBytes())
+            .build()
     );
 
     /**
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rs.common;
+
+import com.artipie.http.Response;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.misc.OutputStreamPublisher;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import javax.json.Json;
+import javax.json.JsonValue;
+import javax.json.stream.JsonGenerator;
+import org.reactivestreams.Publisher;
+
+/**
+ * Response with JSON document streamed in chunks.
+ * <p>
+ * Unlike {@link RsJson} the document is never materialized in memory:
+ * generator callback writes directly into fixed size chunks of response body,
+ * each chunk is sent as soon as it's full and the client is ready to accept it.
+ * The response has no {@code Content-Length} header.
+ * </p>
+ * @since 1.0
+ */
+public final class RsJsonStream extends Response.Wrap {
+
+    /**
+     * Content type.
+     */
+    private static final String TYPE = String.format(
+        "application/json; charset=%s", StandardCharsets.UTF_8.displayName()
+    );
+
+    /**
+     * JSON response written by generator with {@code 200} status.
+     * @param writer Generator callback, it shouldn't close the generator
+     */
+    public RsJsonStream(final Consumer<JsonGenerator> writer) {
+        this(RsStatus.OK, writer);
+    }
+
+    /**
+     * JSON response written by generator.
+     * @param status Response status
+     * @param writer Generator callback, it shouldn't close the generator
+     */
+    public RsJsonStream(final RsStatus status, final Consumer<JsonGenerator> writer) {
+        this(
+            status,
+            new OutputStreamPublisher(
+                out -> {
+                    final JsonGenerator gen = Json.createGenerator(out);
+                    writer.accept(gen);
+                    gen.flush();
+                }
+            )
+        );
+    }
+
+    /**
+     * JSON response with body publisher.
+     * @param status Response status
+     * @param body JSON body publisher
+     */
+    private RsJsonStream(final RsStatus status, final Publisher<ByteBuffer> body) {
+        super(
+            new RsWithBody(
+                new RsWithHeaders(new RsWithStatus(status), new ContentType(RsJsonStream.TYPE)),
+                body
+            )
+        );
+    }
+
+    /**
+     * JSON array response from values publisher.
+     * <p>
+     * Each value is written into response body chunks once it's published,
+     * so the array is never materialized in memory and small values are sent
+     * in full chunks. Writer waits for values in writer thread.
+     * </p>
+     * @since 1.0
+     */
+    public static final class Array extends Response.Wrap {
+
+        /**
+         * JSON array of published values with {@code 200} status.
+         * @param values Values publisher
+         */
+        public Array(final Publisher<? extends JsonValue> values) {
+            this(RsStatus.OK, values);
+        }
+
+        /**
+         * JSON array of published values.
+         * @param status Response status
+         * @param values Values publisher
+         */
+        public Array(final RsStatus status, final Publisher<? extends JsonValue> values) {
+            super(
+                new RsJsonStream(
+                    status,
+                    (JsonGenerator gen) -> {
+                        gen.writeStartArray();
+                        Flowable.<JsonValue>fromPublisher(values).blockingForEach(gen::write);
+                        gen.writeEnd();
+                    }
+                )
+            );
+        }
+    }
+}
@@ -66,6 +66,14 @@ public final class ByMethodsRule implements RtRule {
             final Iterable<Map.Entry<String, String>> headers) {
             return this.origin.apply(line, headers);
         }
+
+        /**
+         * Origin rule.
+         * @return Rule
+         */
+        RtRule origin() {
+            return this.origin;
+        }
     }
 
     /**
@@ -94,4 +102,12 @@ public final class ByMethodsRule implements RtRule {
         final Iterable<Map.Entry<String, String>> headers) {
         return this.methods.contains(new RequestLineFrom(line).method());
     }
+
+    /**
+     * Methods matched by this rule.
+     * @return Methods
+     */
+    Set<RqMethod> methods() {
+        return this.methods;
+    }
 }
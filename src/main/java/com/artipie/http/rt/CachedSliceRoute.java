@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.misc.BoundedCache;
+import com.artipie.http.rq.RequestLineFrom;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.list.ListOf;
+import org.reactivestreams.Publisher;
+
+/**
+ * Routing slice which remembers route decisions.
+ * <p>
+ * If all routes are {@link RtRulePath} with rules depending only on request
+ * method and path, the route chosen for method and path is the same for each
+ * request. This slice keeps chosen route index by method and path in bounded
+ * concurrent cache, cached requests are sent to route slice without applying any
+ * rule. If any rule may depend on headers, e.g. {@link RtRule.ByHeader}, or its
+ * type is unknown, the cache is bypassed and routes are applied as in
+ * {@link SliceRoute}. When the cache is full, the oldest entry is evicted.
+ * </p>
+ * @since 1.0
+ */
+public final class CachedSliceRoute implements Slice {
+
+    /**
+     * Index of not found decision.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * Routes.
+     */
+    private final List<RtPath> routes;
+
+    /**
+     * Router for requests which are not cached.
+     */
+    private final Slice origin;
+
+    /**
+     * Routes by path prefix.
+     */
+    private final RtTrie trie;
+
+    /**
+     * Cache can be used.
+     */
+    private final boolean enabled;
+
+    /**
+     * Route index by method and path.
+     */
+    private final BoundedCache<String, Integer> cache;
+
+    /**
+     * Cache hits.
+     */
+    private final LongAdder hit;
+
+    /**
+     * Cache misses.
+     */
+    private final LongAdder miss;
+
+    /**
+     * Ctor.
+     * @param size Max cache size
+     * @param routes Routes
+     */
+    public CachedSliceRoute(final int size, final RtPath... routes) {
+        this(size, new ListOf<>(routes));
+    }
+
+    /**
+     * Ctor.
+     * @param size Max cache size
+     * @param routes Routes
+     */
+    public CachedSliceRoute(final int size, final List<RtPath> routes) {
+        this.routes = routes;
+        this.origin = new SliceRoute(routes);
+        this.trie = new RtTrie(routes);
+        this.enabled = routes.stream().allMatch(
+            route -> route instanceof RtRulePath && new RuleShape(route).byLine()
+        );
+        this.cache = new BoundedCache<>(size);
+        this.hit = new LongAdder();
+        this.miss = new LongAdder();
+    }
+
+    @Override
+    public Response response(final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final Optional<String> key = this.key(line);
+        final Response res;
+        if (key.isPresent()) {
+            final Optional<Integer> cached = this.cache.get(key.get());
+            final int idx;
+            if (cached.isPresent()) {
+                this.hit.increment();
+                idx = cached.get();
+            } else {
+                this.miss.increment();
+                idx = this.trie.indexes(line)
+                    .filter(pos -> this.route(pos).rule().apply(line, headers))
+                    .findFirst()
+                    .orElse(CachedSliceRoute.NONE);
+                this.cache.put(key.get(), idx);
+            }
+            if (idx == CachedSliceRoute.NONE) {
+                res = SliceRoute.NOT_FOUND;
+            } else {
+                res = this.route(idx).slice().response(line, headers, body);
+            }
+        } else {
+            res = this.origin.response(line, headers, body);
+        }
+        return res;
+    }
+
+    /**
+     * Number of requests routed by cached decision.
+     * @return Cache hits
+     */
+    public long hits() {
+        return this.hit.sum();
+    }
+
+    /**
+     * Number of cacheable requests which were routed by applying rules.
+     * @return Cache misses
+     */
+    public long misses() {
+        return this.miss.sum();
+    }
+
+    /**
+     * Cache key.
+     * @param line Request line
+     * @return Key or empty if cache can't be used
+     */
+    private Optional<String> key(final String line) {
+        Optional<String> res = Optional.empty();
+        if (this.enabled) {
+            try {
+                final RequestLineFrom rql = new RequestLineFrom(line);
+                res = Optional.ofNullable(rql.uri().getPath()).map(
+                    path -> String.join(" ", rql.method().value(), path)
+                );
+            } catch (final IllegalArgumentException | IllegalStateException ex) {
+                res = Optional.empty();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Rule route by index.
+     * @param idx Index
+     * @return Route
+     */
+    private RtRulePath route(final int idx) {
+        return (RtRulePath) this.routes.get(idx);
+    }
+}
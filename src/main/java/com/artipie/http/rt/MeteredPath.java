@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.misc.Bodies;
+import com.artipie.http.misc.BufferedContent;
+import com.artipie.http.rs.RsStatus;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import org.reactivestreams.Publisher;
+
+/**
+ * Route which updates metrics of requests it matches.
+ * @since 1.0
+ */
+final class MeteredPath implements RtPath {
+
+    /**
+     * Origin route.
+     */
+    private final RtPath origin;
+
+    /**
+     * Metrics.
+     */
+    private final RouteMetrics metrics;
+
+    /**
+     * Ctor.
+     * @param origin Origin route
+     * @param metrics Metrics
+     */
+    MeteredPath(final RtPath origin, final RouteMetrics metrics) {
+        this.origin = origin;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Optional<Response> response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        final long start = System.nanoTime();
+        return this.origin.response(line, headers, body).map(
+            rsp -> {
+                this.metrics.match();
+                return connection -> rsp.send(
+                    new MeteredConnection(connection, this.metrics, start)
+                );
+            }
+        );
+    }
+
+    /**
+     * Origin route.
+     * @return Route
+     */
+    RtPath origin() {
+        return this.origin;
+    }
+
+    /**
+     * Connection which updates route metrics.
+     * @since 1.0
+     */
+    private static final class MeteredConnection implements Connection {
+
+        /**
+         * Origin connection.
+         */
+        private final Connection origin;
+
+        /**
+         * Metrics.
+         */
+        private final RouteMetrics metrics;
+
+        /**
+         * Route match time in nanoseconds.
+         */
+        private final long start;
+
+        /**
+         * Ctor.
+         * @param origin Origin connection
+         * @param metrics Metrics
+         * @param start Route match time in nanoseconds
+         */
+        MeteredConnection(final Connection origin, final RouteMetrics metrics,
+            final long start) {
+            this.origin = origin;
+            this.metrics = metrics;
+            this.start = start;
+        }
+
+        @Override
+        public CompletionStage<Void> accept(final RsStatus status, final Headers headers,
+            final Publisher<ByteBuffer> body) {
+            this.metrics.status(status);
+            final Publisher<ByteBuffer> counted;
+            if (body instanceof BufferedContent) {
+                this.metrics.sent(((BufferedContent) body).size().get());
+                counted = body;
+            } else {
+                final Publisher<ByteBuffer> mapped = new Bodies.Map(
+                    body,
+                    buf -> {
+                        this.metrics.sent(buf.remaining());
+                        return buf;
+                    }
+                );
+                if (body instanceof Content) {
+                    counted = new Content.From(((Content) body).size(), mapped);
+                } else {
+                    counted = mapped;
+                }
+            }
+            return this.origin.accept(status, headers, counted).whenComplete(
+                (nothing, err) -> this.metrics.latency(System.nanoTime() - this.start)
+            );
+        }
+    }
+}
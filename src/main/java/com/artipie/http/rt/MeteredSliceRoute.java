@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.list.ListOf;
+import org.reactivestreams.Publisher;
+
+/**
+ * Routing slice with per-route metrics.
+ * <p>
+ * Routes requests as {@link SliceRoute} and keeps {@link RouteMetrics} of each
+ * route: matched requests, responses by status class, response bytes and
+ * latency histogram. Metrics of route are updated only by requests routed to
+ * it, requests which no route matched are counted separately.
+ * </p>
+ * @since 1.0
+ */
+public final class MeteredSliceRoute implements Slice {
+
+    /**
+     * Metrics in routes order.
+     */
+    private final List<RouteMetrics> metrics;
+
+    /**
+     * Router.
+     */
+    private final Slice origin;
+
+    /**
+     * Requests not matched by any route.
+     */
+    private final LongAdder missed;
+
+    /**
+     * Ctor.
+     * @param routes Routes
+     */
+    public MeteredSliceRoute(final RtPath... routes) {
+        this(new ListOf<>(routes));
+    }
+
+    /**
+     * Ctor.
+     * @param routes Routes
+     */
+    public MeteredSliceRoute(final List<RtPath> routes) {
+        this(routes, MeteredSliceRoute.metrics(routes.size()));
+    }
+
+    /**
+     * Ctor.
+     * @param routes Routes
+     * @param metrics Metrics in routes order
+     */
+    private MeteredSliceRoute(final List<RtPath> routes, final List<RouteMetrics> metrics) {
+        this.metrics = metrics;
+        this.origin = new SliceRoute(MeteredSliceRoute.metered(routes, metrics));
+        this.missed = new LongAdder();
+    }
+
+    @Override
+    public Response response(final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final Response res = this.origin.response(line, headers, body);
+        if (res == SliceRoute.NOT_FOUND) {
+            this.missed.increment();
+        }
+        return res;
+    }
+
+    /**
+     * Current metrics of routes.
+     * @return Snapshots in routes order
+     */
+    public List<RouteMetrics.Snapshot> snapshot() {
+        final List<RouteMetrics.Snapshot> res = new ArrayList<>(this.metrics.size());
+        for (final RouteMetrics item : this.metrics) {
+            res.add(item.snapshot());
+        }
+        return res;
+    }
+
+    /**
+     * Number of requests not matched by any route.
+     * @return Number of requests
+     */
+    public long notFound() {
+        return this.missed.sum();
+    }
+
+    /**
+     * New metrics.
+     * @param size Number of routes
+     * @return Metrics
+     */
+    private static List<RouteMetrics> metrics(final int size) {
+        final List<RouteMetrics> res = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            res.add(new RouteMetrics());
+        }
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * Metered routes.
+     * @param routes Routes
+     * @param metrics Metrics in routes order
+     * @return Routes
+     */
+    private static List<RtPath> metered(final List<RtPath> routes,
+        final List<RouteMetrics> metrics) {
+        final List<RtPath> res = new ArrayList<>(routes.size());
+        for (int idx = 0; idx < routes.size(); ++idx) {
+            res.add(new MeteredPath(routes.get(idx), metrics.get(idx)));
+        }
+        return res;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.Headers;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Path parameters captured by {@link RtTemplatePath}.
+ * <p>
+ * Route passes parameters to its slice with request headers object, but not as
+ * headers: parameters are never sent with headers to other servers, e.g. by
+ * proxy slice, and can't be set by client. This class reads them from slice
+ * request headers without scanning them, so the slice doesn't parse path again.
+ * Parameters are available while request headers object is passed as is,
+ * if a slice between route and reader wraps headers, they are lost.
+ * </p>
+ * @since 1.0
+ */
+public final class PathParams {
+
+    /**
+     * Request headers.
+     */
+    private final Iterable<Map.Entry<String, String>> headers;
+
+    /**
+     * Ctor.
+     * @param headers Request headers
+     */
+    public PathParams(final Iterable<Map.Entry<String, String>> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Parameter value.
+     * @param name Parameter name
+     * @return Value
+     * @throws IllegalStateException If there is no such parameter
+     */
+    public String value(final String name) {
+        return this.find(name).orElseThrow(
+            () -> new IllegalStateException(
+                String.format("Path parameter '%s' not found", name)
+            )
+        );
+    }
+
+    /**
+     * Find parameter value.
+     * @param name Parameter name
+     * @return Value or empty if there is no such parameter
+     */
+    public Optional<String> find(final String name) {
+        return Optional.ofNullable(PathParams.params(this.headers).get(name));
+    }
+
+    /**
+     * Parameters passed with request headers.
+     * @param headers Request headers
+     * @return Parameters by name, empty if headers have no parameters
+     */
+    static Map<String, String> params(final Iterable<Map.Entry<String, String>> headers) {
+        final Map<String, String> res;
+        if (headers instanceof WithParams) {
+            res = ((WithParams) headers).params;
+        } else {
+            res = Collections.emptyMap();
+        }
+        return res;
+    }
+
+    /**
+     * Request headers with path parameters.
+     * @since 1.0
+     */
+    static final class WithParams extends Headers.Wrap {
+
+        /**
+         * Path parameters.
+         */
+        private final Map<String, String> params;
+
+        /**
+         * Ctor.
+         * @param headers Request headers, parameters passed with them are kept
+         *  unless they are overridden
+         * @param params Path parameters
+         */
+        WithParams(final Iterable<Map.Entry<String, String>> headers,
+            final Map<String, String> params) {
+            super(headers);
+            this.params = PathParams.merged(PathParams.params(headers), params);
+        }
+    }
+
+    /**
+     * Merge parameters.
+     * @param outer Parameters of outer route
+     * @param inner Parameters of inner route
+     * @return Unmodifiable parameters, inner ones override outer
+     */
+    private static Map<String, String> merged(final Map<String, String> outer,
+        final Map<String, String> inner) {
+        final Map<String, String> res = new HashMap<>(outer);
+        res.putAll(inner);
+        return Collections.unmodifiableMap(res);
+    }
+}
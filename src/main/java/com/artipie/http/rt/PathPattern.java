@@ -0,0 +1,336 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Literal parts of path regular expression.
+ * <p>
+ * Analyses pattern source to find literal text which any path matching the
+ * whole pattern must start or end with, and the only path matched by pattern
+ * without any regex constructs. Analysis is conservative: if pattern has
+ * top-level alternation or flags changing literal matching, nothing is required.
+ * </p>
+ * @since 1.0
+ */
+final class PathPattern {
+
+    /**
+     * Regex meta characters.
+     */
+    private static final String META = ".[](){}*+?|^$\\";
+
+    /**
+     * Quantifiers which make previous char optional or repeated.
+     */
+    private static final String QUANTIFIERS = "?*+{";
+
+    /**
+     * Escaped letters which start escapes longer than one char: unicode, hex,
+     * control char, named back reference and named char escapes.
+     */
+    private static final String LONG_ESCAPES = "uxckN";
+
+    /**
+     * Flags which change matching of literal text.
+     */
+    private static final int UNSAFE = Pattern.CASE_INSENSITIVE | Pattern.COMMENTS
+        | Pattern.CANON_EQ;
+
+    /**
+     * Inline flags group, it changes matching of text after it.
+     */
+    private static final Pattern INLINE = Pattern.compile("\\(\\?[a-zA-Z-]");
+
+    /**
+     * Pattern.
+     */
+    private final Pattern ptn;
+
+    /**
+     * Ctor.
+     * @param ptn Pattern
+     */
+    PathPattern(final Pattern ptn) {
+        this.ptn = ptn;
+    }
+
+    /**
+     * Literal prefix required by pattern.
+     * @return Prefix or empty if pattern doesn't require any
+     */
+    Optional<String> prefix() {
+        final String src = this.ptn.pattern();
+        final Optional<String> res;
+        if (this.literally()) {
+            res = Optional.of(src);
+        } else if (this.unsafe()) {
+            res = Optional.empty();
+        } else {
+            final StringBuilder out = new StringBuilder();
+            PathPattern.scan(src, PathPattern.start(src), out);
+            res = Optional.of(out.toString()).filter(str -> !str.isEmpty());
+        }
+        return res;
+    }
+
+    /**
+     * Literal suffixes, any path matching the pattern ends with one of them.
+     * Trailing group of literal alternatives, like {@code (jar|pom)$},
+     * gives one suffix per alternative.
+     * @return Suffixes or empty list if pattern doesn't require any
+     */
+    List<String> suffixes() {
+        final String src = this.ptn.pattern();
+        final List<String> res;
+        if (this.literally()) {
+            res = Collections.singletonList(src);
+        } else if (this.unsafe() || PathPattern.INLINE.matcher(src).find()) {
+            res = Collections.emptyList();
+        } else {
+            res = PathPattern.trailing(src);
+        }
+        return res;
+    }
+
+    /**
+     * The only path matched by pattern if pattern has no regex constructs,
+     * e.g. {@code ^/api/version$}.
+     * @return Path or empty if pattern is not literal
+     */
+    Optional<String> literal() {
+        final String src = this.ptn.pattern();
+        Optional<String> res = Optional.empty();
+        if (this.literally()) {
+            res = Optional.of(src);
+        } else if (!this.unsafe()) {
+            final StringBuilder out = new StringBuilder();
+            final int end = PathPattern.scan(src, PathPattern.start(src), out);
+            if (end == src.length() || end == src.length() - 1 && src.charAt(end) == '$') {
+                res = Optional.of(out.toString());
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Append literal text to pattern source, escaping chars which are not
+     * letters or digits, so the text is found by this analysis.
+     * @param text Text
+     * @param src Pattern source
+     */
+    static void quote(final String text, final StringBuilder src) {
+        for (int pos = 0; pos < text.length(); ++pos) {
+            final char chr = text.charAt(pos);
+            if (!Character.isLetterOrDigit(chr)) {
+                src.append('\\');
+            }
+            src.append(chr);
+        }
+    }
+
+    /**
+     * Check if pattern is compiled with {@link Pattern#LITERAL} flag.
+     * @return True if it is
+     */
+    private boolean literally() {
+        return (this.ptn.flags() & Pattern.LITERAL) != 0;
+    }
+
+    /**
+     * Check if pattern source can't be analysed.
+     * @return True if pattern has flags changing literal matching or
+     *  top-level alternation
+     */
+    private boolean unsafe() {
+        return (this.ptn.flags() & PathPattern.UNSAFE) != 0
+            || PathPattern.alternation(this.ptn.pattern());
+    }
+
+    /**
+     * Position of pattern source after start anchor.
+     * @param src Pattern source
+     * @return Position
+     */
+    private static int start(final String src) {
+        int res = 0;
+        if (src.startsWith("^")) {
+            res = 1;
+        }
+        return res;
+    }
+
+    /**
+     * Scan literal text of pattern source.
+     * @param src Pattern source
+     * @param from Start position
+     * @param out Literal text
+     * @return Position of first char which is not a part of literal text
+     */
+    private static int scan(final String src, final int from, final StringBuilder out) {
+        int pos = from;
+        while (pos < src.length()) {
+            final char chr = src.charAt(pos);
+            final char lit;
+            final int next;
+            if (chr == '\\' && pos + 1 < src.length()
+                && !Character.isLetterOrDigit(src.charAt(pos + 1))) {
+                lit = src.charAt(pos + 1);
+                next = pos + 2;
+            } else if (PathPattern.META.indexOf(chr) < 0) {
+                lit = chr;
+                next = pos + 1;
+            } else {
+                break;
+            }
+            if (next < src.length() && PathPattern.QUANTIFIERS.indexOf(src.charAt(next)) >= 0) {
+                break;
+            }
+            out.append(lit);
+            pos = next;
+        }
+        return pos;
+    }
+
+    /**
+     * Trailing literal suffixes of pattern source.
+     * @param src Pattern source
+     * @return Suffixes or empty list
+     */
+    private static List<String> trailing(final String src) {
+        int end = src.length();
+        if (end > 0 && src.charAt(end - 1) == '$' && !PathPattern.escaped(src, end - 1)) {
+            end -= 1;
+        }
+        List<String> alts = Collections.singletonList("");
+        if (end > 0 && src.charAt(end - 1) == ')' && !PathPattern.escaped(src, end - 1)) {
+            int open = src.lastIndexOf('(', end - 2);
+            while (open >= 0 && PathPattern.escaped(src, open)) {
+                open = src.lastIndexOf('(', open - 1);
+            }
+            if (open >= 0) {
+                alts = PathPattern.alternatives(src.substring(open + 1, end - 1));
+            } else {
+                alts = Collections.emptyList();
+            }
+            end = open;
+        }
+        final StringBuilder out = new StringBuilder();
+        int pos = end - 1;
+        boolean whole = true;
+        while (pos >= 0) {
+            final char chr = src.charAt(pos);
+            if (PathPattern.escaped(src, pos) && !Character.isLetterOrDigit(chr)) {
+                out.append(chr);
+                pos -= 2;
+            } else if (!PathPattern.escaped(src, pos) && PathPattern.META.indexOf(chr) < 0) {
+                out.append(chr);
+                pos -= 1;
+            } else {
+                whole = !PathPattern.escaped(src, pos) || !PathPattern.longEscape(chr);
+                break;
+            }
+        }
+        final String run = out.reverse().toString();
+        final List<String> res = new ArrayList<>(alts.size());
+        for (final String alt : alts) {
+            res.add(run.concat(alt));
+        }
+        if (!whole || res.contains("")) {
+            res.clear();
+        }
+        return res;
+    }
+
+    /**
+     * Literal alternatives of group.
+     * @param group Group source without parentheses
+     * @return Alternatives or empty list if any of them is not literal
+     */
+    private static List<String> alternatives(final String group) {
+        String src = group;
+        if (src.startsWith("?:")) {
+            src = src.substring(2);
+        }
+        final List<String> res = new ArrayList<>(2);
+        int pos = 0;
+        while (pos <= src.length()) {
+            final StringBuilder out = new StringBuilder();
+            final int end = PathPattern.scan(src, pos, out);
+            if (end < src.length() && src.charAt(end) != '|') {
+                res.clear();
+                break;
+            }
+            res.add(out.toString());
+            pos = end + 1;
+        }
+        return res;
+    }
+
+    /**
+     * Check if escaped char may start escape longer than one char, then
+     * chars after it are a part of the escape, not literal text. Escaped
+     * digits are octal escapes or back references which may have several digits.
+     * @param chr Escaped char
+     * @return True if it may
+     */
+    private static boolean longEscape(final char chr) {
+        return Character.isDigit(chr) || PathPattern.LONG_ESCAPES.indexOf(chr) >= 0;
+    }
+
+    /**
+     * Check if char of pattern source is escaped with backslash.
+     * @param src Pattern source
+     * @param pos Char position
+     * @return True if escaped
+     */
+    private static boolean escaped(final String src, final int pos) {
+        int count = 0;
+        while (pos - count > 0 && src.charAt(pos - count - 1) == '\\') {
+            count += 1;
+        }
+        return count % 2 == 1;
+    }
+
+    /**
+     * Check if pattern source has top-level alternation.
+     * @param src Pattern source
+     * @return True if has
+     * @checkstyle CyclomaticComplexityCheck (40 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static boolean alternation(final String src) {
+        boolean found = false;
+        int depth = 0;
+        int cls = -1;
+        int pos = 0;
+        while (pos < src.length() && !found) {
+            final char chr = src.charAt(pos);
+            if (chr == '\\') {
+                pos += 1;
+            } else if (cls >= 0) {
+                if (chr == ']' && pos > cls + 1
+                    && !(pos == cls + 2 && src.charAt(cls + 1) == '^')) {
+                    cls = -1;
+                }
+            } else if (chr == '[') {
+                cls = pos;
+            } else if (chr == '(') {
+                depth += 1;
+            } else if (chr == ')') {
+                depth -= 1;
+            } else if (chr == '|' && depth == 0) {
+                found = true;
+            }
+            pos += 1;
+        }
+        return found;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Request path template.
+ * <p>
+ * Template is a path with named parameters in curly braces, e.g.
+ * {@code /v2/{name:.+}/blobs/{digest}}. Parameter may have a regex after
+ * colon, by default it matches one path segment. Text out of braces is matched
+ * literally. Names are letters and digits starting with a letter.
+ * </p>
+ * @since 1.0
+ */
+public final class PathTemplate {
+
+    /**
+     * Parameter name.
+     */
+    private static final Pattern NAME = Pattern.compile("[a-zA-Z][a-zA-Z0-9]*");
+
+    /**
+     * Parameter regex by default.
+     */
+    private static final String SEGMENT = "[^/]+";
+
+    /**
+     * Template.
+     */
+    private final String template;
+
+    /**
+     * Path pattern.
+     */
+    private final Pattern ptn;
+
+    /**
+     * Parameter names.
+     */
+    private final List<String> names;
+
+    /**
+     * Literal text before first parameter.
+     */
+    private final String prefix;
+
+    /**
+     * Ctor.
+     * @param template Template
+     * @throws IllegalArgumentException If template is not valid
+     */
+    public PathTemplate(final String template) {
+        this(template, new ArrayList<>(2));
+    }
+
+    /**
+     * Ctor.
+     * @param template Template
+     * @param names Parameter names to fill
+     */
+    private PathTemplate(final String template, final List<String> names) {
+        this.template = template;
+        this.ptn = PathTemplate.compile(template, names);
+        this.names = Collections.unmodifiableList(names);
+        this.prefix = PathTemplate.literal(template);
+    }
+
+    /**
+     * Match path and capture parameters.
+     * @param path Request path
+     * @return Parameter values by names in template order or empty if path
+     *  doesn't match the template
+     */
+    public Optional<Map<String, String>> match(final String path) {
+        Optional<Map<String, String>> res = Optional.empty();
+        if (path.startsWith(this.prefix)) {
+            final Matcher matcher = this.ptn.matcher(path);
+            if (matcher.matches()) {
+                final Map<String, String> params = new LinkedHashMap<>(this.names.size());
+                for (final String name : this.names) {
+                    params.put(name, matcher.group(name));
+                }
+                res = Optional.of(params);
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return this.template;
+    }
+
+    /**
+     * Path pattern.
+     * @return Pattern
+     */
+    Pattern pattern() {
+        return this.ptn;
+    }
+
+    /**
+     * Compile template to pattern with named groups.
+     * @param template Template
+     * @param names Parameter names to fill
+     * @return Pattern
+     */
+    private static Pattern compile(final String template, final List<String> names) {
+        final StringBuilder regex = new StringBuilder(template.length() * 2);
+        int pos = 0;
+        while (pos < template.length()) {
+            final int open = template.indexOf('{', pos);
+            if (open < 0) {
+                PathPattern.quote(template.substring(pos), regex);
+                break;
+            }
+            PathPattern.quote(template.substring(pos, open), regex);
+            final int close = PathTemplate.close(template, open);
+            final String param = template.substring(open + 1, close);
+            final int colon = param.indexOf(':');
+            final String name;
+            final String expr;
+            if (colon < 0) {
+                name = param;
+                expr = PathTemplate.SEGMENT;
+            } else {
+                name = param.substring(0, colon);
+                expr = param.substring(colon + 1);
+            }
+            if (!PathTemplate.NAME.matcher(name).matches() || names.contains(name)) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid parameter '%s' in path template: %s", name, template)
+                );
+            }
+            names.add(name);
+            regex.append("(?<").append(name).append('>').append(expr).append(')');
+            pos = close + 1;
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Position of brace closing parameter, nested braces of regex are skipped.
+     * @param template Template
+     * @param open Position of opening brace
+     * @return Position of closing brace
+     */
+    private static int close(final String template, final int open) {
+        int depth = 0;
+        int pos = open;
+        while (pos < template.length()) {
+            final char chr = template.charAt(pos);
+            if (chr == '\\') {
+                pos += 1;
+            } else if (chr == '{') {
+                depth += 1;
+            } else if (chr == '}') {
+                depth -= 1;
+                if (depth == 0) {
+                    break;
+                }
+            }
+            pos += 1;
+        }
+        if (pos >= template.length()) {
+            throw new IllegalArgumentException(
+                String.format("Unclosed parameter in path template: %s", template)
+            );
+        }
+        return pos;
+    }
+
+    /**
+     * Literal text of template before first parameter.
+     * @param template Template
+     * @return Text
+     */
+    private static String literal(final String template) {
+        final int open = template.indexOf('{');
+        final String res;
+        if (open < 0) {
+            res = template;
+        } else {
+            res = template.substring(0, open);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.rs.RsStatus;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request metrics of route.
+ * <p>
+ * Counts matched requests, responses by status class, response body bytes
+ * and response latency histogram. Latency is time from route match until
+ * response is sent. All counters are {@link LongAdder}s, so they can be updated
+ * concurrently without locks; snapshot is not atomic across counters.
+ * </p>
+ * @since 1.0
+ */
+public final class RouteMetrics {
+
+    /**
+     * Upper bounds of latency histogram buckets in milliseconds.
+     * @checkstyle MagicNumberCheck (3 lines)
+     */
+    private static final long[] BOUNDS = {
+        1L, 2L, 5L, 10L, 25L, 50L, 100L, 250L, 500L, 1000L, 2500L, 5000L, 10_000L,
+        Long.MAX_VALUE
+    };
+
+    /**
+     * Number of status classes.
+     */
+    private static final int CLASSES = 5;
+
+    /**
+     * Matched requests.
+     */
+    private final LongAdder matched;
+
+    /**
+     * Responses by status class, index is first digit of code minus one.
+     */
+    private final LongAdder[] statuses;
+
+    /**
+     * Response body bytes.
+     */
+    private final LongAdder bytes;
+
+    /**
+     * Latency histogram buckets.
+     */
+    private final LongAdder[] latency;
+
+    /**
+     * Ctor.
+     */
+    public RouteMetrics() {
+        this.matched = new LongAdder();
+        this.statuses = RouteMetrics.adders(RouteMetrics.CLASSES);
+        this.bytes = new LongAdder();
+        this.latency = RouteMetrics.adders(RouteMetrics.BOUNDS.length);
+    }
+
+    /**
+     * Current values.
+     * @return Snapshot
+     */
+    public Snapshot snapshot() {
+        final long[] classes = new long[RouteMetrics.CLASSES];
+        for (int idx = 0; idx < classes.length; ++idx) {
+            classes[idx] = this.statuses[idx].sum();
+        }
+        final Map<Long, Long> hist = new LinkedHashMap<>(RouteMetrics.BOUNDS.length * 2);
+        for (int idx = 0; idx < RouteMetrics.BOUNDS.length; ++idx) {
+            hist.put(RouteMetrics.BOUNDS[idx], this.latency[idx].sum());
+        }
+        return new Snapshot(this.matched.sum(), classes, this.bytes.sum(), hist);
+    }
+
+    /**
+     * Count matched request.
+     */
+    void match() {
+        this.matched.increment();
+    }
+
+    /**
+     * Count response status.
+     * @param status Status
+     */
+    void status(final RsStatus status) {
+        final int cls = status.code().charAt(0) - '1';
+        if (cls >= 0 && cls < RouteMetrics.CLASSES) {
+            this.statuses[cls].increment();
+        }
+    }
+
+    /**
+     * Count response body bytes.
+     * @param count Number of bytes
+     */
+    void sent(final long count) {
+        this.bytes.add(count);
+    }
+
+    /**
+     * Count response latency.
+     * @param nanos Latency in nanoseconds
+     */
+    void latency(final long nanos) {
+        final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int idx = 0;
+        while (millis > RouteMetrics.BOUNDS[idx]) {
+            idx += 1;
+        }
+        this.latency[idx].increment();
+    }
+
+    /**
+     * New adders.
+     * @param size Number of adders
+     * @return Adders
+     */
+    private static LongAdder[] adders(final int size) {
+        final LongAdder[] res = new LongAdder[size];
+        for (int idx = 0; idx < size; ++idx) {
+            res[idx] = new LongAdder();
+        }
+        return res;
+    }
+
+    /**
+     * Metric values.
+     * @since 1.0
+     */
+    public static final class Snapshot {
+
+        /**
+         * Matched requests.
+         */
+        private final long matched;
+
+        /**
+         * Responses by status class.
+         */
+        private final long[] classes;
+
+        /**
+         * Response body bytes.
+         */
+        private final long bytes;
+
+        /**
+         * Latency histogram.
+         */
+        private final Map<Long, Long> hist;
+
+        /**
+         * Ctor.
+         * @param matched Matched requests
+         * @param classes Responses by status class
+         * @param bytes Response body bytes
+         * @param hist Latency histogram
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Snapshot(final long matched, final long[] classes, final long bytes,
+            final Map<Long, Long> hist) {
+            this.matched = matched;
+            this.classes = classes;
+            this.bytes = bytes;
+            this.hist = Collections.unmodifiableMap(hist);
+        }
+
+        /**
+         * Number of requests matched by route.
+         * @return Number of requests
+         */
+        public long matches() {
+            return this.matched;
+        }
+
+        /**
+         * Number of responses of status class, e.g. {@code 2} for
+         * {@code 2xx} responses.
+         * @param cls Status class from 1 to 5
+         * @return Number of responses
+         */
+        public long responses(final int cls) {
+            if (cls < 1 || cls > this.classes.length) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid status class: %d", cls)
+                );
+            }
+            return this.classes[cls - 1];
+        }
+
+        /**
+         * Number of response body bytes sent.
+         * @return Bytes
+         */
+        public long bytes() {
+            return this.bytes;
+        }
+
+        /**
+         * Latency histogram: number of responses by bucket upper bound in
+         * milliseconds, last bound is {@link Long#MAX_VALUE}.
+         * @return Histogram ordered by bounds
+         */
+        public Map<Long, Long> latency() {
+            return this.hist;
+        }
+    }
+}
@@ -7,7 +7,9 @@ package com.artipie.http.rt;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rq.RqHeaders;
 import com.artipie.http.rq.RqMethod;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import org.cactoos.list.ListOf;
 
@@ -100,6 +102,14 @@ public interface RtRule {
             }
             return match;
         }
+
+        /**
+         * Inner rules.
+         * @return Rules
+         */
+        Iterable<RtRule> rules() {
+            return this.rules;
+        }
     }
 
     /**
@@ -141,6 +151,14 @@ public interface RtRule {
             }
             return match;
         }
+
+        /**
+         * Inner rules.
+         * @return Rules
+         */
+        Iterable<RtRule> rules() {
+            return this.rules;
+        }
     }
 
     /**
@@ -162,6 +180,11 @@ public interface RtRule {
 
     /**
      * Route by path.
+     * <p>
+     * Literal prefix and suffixes of the pattern are found on construction,
+     * paths without them are rejected without regex matching. If pattern
+     * has no regex constructs, path is compared with it as a string.
+     * </p>
      * @since 0.5
      */
     final class ByPath implements RtRule {
@@ -171,6 +194,21 @@ public interface RtRule {
          */
         private final Pattern ptn;
 
+        /**
+         * Literal prefix of matched paths.
+         */
+        private final String prefix;
+
+        /**
+         * Literal suffixes of matched paths, empty if not known.
+         */
+        private final List<String> suffixes;
+
+        /**
+         * The only matched path if pattern is literal.
+         */
+        private final Optional<String> literal;
+
         /**
          * By path rule.
          * @param ptn Path pattern string
@@ -184,15 +222,57 @@ public interface RtRule {
          * @param ptn Path pattern
          */
         public ByPath(final Pattern ptn) {
+            this(ptn, new PathPattern(ptn));
+        }
+
+        /**
+         * By path rule.
+         * @param ptn Path pattern
+         * @param path Literal parts of pattern
+         */
+        private ByPath(final Pattern ptn, final PathPattern path) {
             this.ptn = ptn;
+            this.prefix = path.prefix().orElse("");
+            this.suffixes = path.suffixes();
+            this.literal = path.literal();
         }
 
         @Override
         public boolean apply(final String line,
             final Iterable<Map.Entry<String, String>> headers) {
-            return this.ptn.matcher(
-                new RequestLineFrom(line).uri().getPath()
-            ).matches();
+            final String path = new RequestLineFrom(line).uri().getPath();
+            final boolean res;
+            if (this.literal.isPresent()) {
+                res = this.literal.get().equals(path);
+            } else {
+                res = path.startsWith(this.prefix) && this.suffixed(path)
+                    && this.ptn.matcher(path).matches();
+            }
+            return res;
+        }
+
+        /**
+         * Path pattern.
+         * @return Pattern
+         */
+        Pattern pattern() {
+            return this.ptn;
+        }
+
+        /**
+         * Check if path ends with one of literal suffixes.
+         * @param path Path
+         * @return True if it does or suffixes are not known
+         */
+        private boolean suffixed(final String path) {
+            boolean res = this.suffixes.isEmpty();
+            for (final String suffix : this.suffixes) {
+                if (path.endsWith(suffix)) {
+                    res = true;
+                    break;
+                }
+            }
+            return res;
         }
     }
 
@@ -220,6 +300,14 @@ public interface RtRule {
             final Iterable<Map.Entry<String, String>> headers) {
             return this.origin.apply(line, headers);
         }
+
+        /**
+         * Origin rule.
+         * @return Rule
+         */
+        final RtRule origin() {
+            return this.origin;
+        }
     }
 
     /**
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithStatus;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import org.reactivestreams.Publisher;
+
+/**
+ * Route by path template.
+ * <p>
+ * Matches request path with {@link PathTemplate} once and passes captured
+ * parameters to the slice, they can be read with {@link PathParams}.
+ * Parameters of outer template routes are kept, nested route overrides
+ * parameters with the same names. Request with control characters in
+ * captured parameters, e.g. percent-encoded line breaks, is rejected with
+ * {@code 400} status.
+ * For example, {@code new RtTemplatePath(ByMethodsRule.Standard.GET,
+ * "/v2/{name:.+}/blobs/{digest}", slice)}.
+ * </p>
+ * @since 1.0
+ */
+public final class RtTemplatePath implements RtPath {
+
+    /**
+     * Rule to apply before template.
+     */
+    private final RtRule rule;
+
+    /**
+     * Path template.
+     */
+    private final PathTemplate template;
+
+    /**
+     * Slice under route.
+     */
+    private final Slice slice;
+
+    /**
+     * Route by template.
+     * @param template Path template
+     * @param slice Slice to call
+     */
+    public RtTemplatePath(final String template, final Slice slice) {
+        this(RtRule.FALLBACK, template, slice);
+    }
+
+    /**
+     * Route by rule and template.
+     * @param rule Rule to apply, e.g. by method
+     * @param template Path template
+     * @param slice Slice to call
+     */
+    public RtTemplatePath(final RtRule rule, final String template, final Slice slice) {
+        this(rule, new PathTemplate(template), slice);
+    }
+
+    /**
+     * Route by rule and template.
+     * @param rule Rule to apply, e.g. by method
+     * @param template Path template
+     * @param slice Slice to call
+     */
+    public RtTemplatePath(final RtRule rule, final PathTemplate template, final Slice slice) {
+        this.rule = rule;
+        this.template = template;
+        this.slice = slice;
+    }
+
+    @Override
+    public Optional<Response> response(
+        final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body
+    ) {
+        Optional<Response> res = Optional.empty();
+        if (this.rule.apply(line, headers)) {
+            final Optional<Map<String, String>> params = this.template.match(
+                new RequestLineFrom(line).uri().getPath()
+            );
+            if (params.isPresent()) {
+                if (params.get().values().stream().allMatch(RtTemplatePath::printable)) {
+                    res = Optional.of(
+                        this.slice.response(
+                            line, new PathParams.WithParams(headers, params.get()), body
+                        )
+                    );
+                } else {
+                    res = Optional.of(
+                        new RsWithBody(
+                            new RsWithStatus(RsStatus.BAD_REQUEST),
+                            "Control characters in path parameters",
+                            StandardCharsets.UTF_8
+                        )
+                    );
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Rule matching the same requests as this route, it is used by
+     * routers to find out route constraints.
+     * @return Rule
+     */
+    RtRule rule() {
+        return new RtRule.All(this.rule, new RtRule.ByPath(this.template.pattern()));
+    }
+
+    /**
+     * Check if parameter value has no control characters.
+     * @param value Parameter value
+     * @return True if it has no control characters
+     */
+    private static boolean printable(final String value) {
+        return value.chars().noneMatch(Character::isISOControl);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.rq.RequestLineFrom;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Radix trie of routes by path prefix.
+ * <p>
+ * Routes with rules requiring literal path prefix are stored in trie nodes
+ * under this prefix, other routes are candidates for any request. Lookup walks
+ * the trie along request path and collects indexes of routes which may match it,
+ * so routes with other prefixes are never applied. Candidates are returned
+ * in original routes order.
+ * </p>
+ * @since 1.0
+ */
+final class RtTrie {
+
+    /**
+     * Routes.
+     */
+    private final List<RtPath> routes;
+
+    /**
+     * Root node.
+     */
+    private final Node root;
+
+    /**
+     * Routes without path prefix.
+     */
+    private final BitSet free;
+
+    /**
+     * All routes.
+     */
+    private final BitSet all;
+
+    /**
+     * Trie has routes with prefixes.
+     */
+    private final boolean prefixed;
+
+    /**
+     * Ctor.
+     * @param routes Routes
+     */
+    RtTrie(final List<RtPath> routes) {
+        this.routes = routes;
+        this.root = new Node("");
+        this.free = new BitSet(routes.size());
+        this.all = new BitSet(routes.size());
+        this.all.set(0, routes.size());
+        boolean any = false;
+        for (int idx = 0; idx < routes.size(); ++idx) {
+            final Optional<String> prefix = new RuleShape(routes.get(idx)).prefix();
+            if (prefix.isPresent()) {
+                this.root.insert(prefix.get(), 0, idx);
+                any = true;
+            } else {
+                this.free.set(idx);
+            }
+        }
+        this.prefixed = any;
+    }
+
+    /**
+     * Routes which may match request.
+     * @param line Request line
+     * @return Routes in original order
+     */
+    Stream<RtPath> candidates(final String line) {
+        return this.indexes(line).mapToObj(this.routes::get);
+    }
+
+    /**
+     * Indexes of routes which may match request.
+     * @param line Request line
+     * @return Route indexes in ascending order
+     */
+    IntStream indexes(final String line) {
+        final BitSet res;
+        if (this.prefixed) {
+            res = this.candidates(RtTrie.path(line));
+        } else {
+            res = this.all;
+        }
+        return res.stream();
+    }
+
+    /**
+     * Indexes of routes which may match request path.
+     * @param path Request path, empty if it can't be parsed
+     * @return Route indexes
+     */
+    private BitSet candidates(final Optional<String> path) {
+        final BitSet res;
+        if (path.isPresent()) {
+            res = (BitSet) this.free.clone();
+            this.root.collect(path.get(), 0, res);
+        } else {
+            res = this.all;
+        }
+        return res;
+    }
+
+    /**
+     * Request path.
+     * @param line Request line
+     * @return Path or empty if it can't be parsed, then all routes are applied
+     *  and each fails the way it did without trie
+     */
+    private static Optional<String> path(final String line) {
+        Optional<String> res;
+        try {
+            res = Optional.ofNullable(new RequestLineFrom(line).uri().getPath());
+        } catch (final IllegalArgumentException ex) {
+            res = Optional.empty();
+        }
+        return res;
+    }
+
+    /**
+     * Trie node.
+     * @since 1.0
+     */
+    private static final class Node {
+
+        /**
+         * Routes ending at this node.
+         */
+        private final BitSet routes;
+
+        /**
+         * Children by first char of label.
+         */
+        private final Map<Character, Node> children;
+
+        /**
+         * Edge label from parent.
+         */
+        private String label;
+
+        /**
+         * Ctor.
+         * @param label Edge label
+         */
+        Node(final String label) {
+            this.routes = new BitSet();
+            this.children = new HashMap<>();
+            this.label = label;
+        }
+
+        /**
+         * Insert route.
+         * @param key Prefix
+         * @param pos Position of this node's end in prefix
+         * @param idx Route index
+         */
+        void insert(final String key, final int pos, final int idx) {
+            if (pos == key.length()) {
+                this.routes.set(idx);
+            } else {
+                Node child = this.children.get(key.charAt(pos));
+                if (child == null) {
+                    child = new Node(key.substring(pos));
+                    this.children.put(key.charAt(pos), child);
+                } else {
+                    int len = 0;
+                    while (len < child.label.length() && pos + len < key.length()
+                        && child.label.charAt(len) == key.charAt(pos + len)) {
+                        len += 1;
+                    }
+                    if (len < child.label.length()) {
+                        final Node mid = new Node(child.label.substring(0, len));
+                        child.label = child.label.substring(len);
+                        mid.children.put(child.label.charAt(0), child);
+                        this.children.put(key.charAt(pos), mid);
+                        child = mid;
+                    }
+                }
+                child.insert(key, pos + child.label.length(), idx);
+            }
+        }
+
+        /**
+         * Collect routes with prefixes of path.
+         * @param path Path
+         * @param pos Position of this node's end in path
+         * @param res Route indexes
+         */
+        void collect(final String path, final int pos, final BitSet res) {
+            res.or(this.routes);
+            if (pos < path.length()) {
+                final Node child = this.children.get(path.charAt(pos));
+                if (child != null && path.startsWith(child.label, pos)) {
+                    child.collect(path, pos + child.label.length(), res);
+                }
+            }
+        }
+    }
+}
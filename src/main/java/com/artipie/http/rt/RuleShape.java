@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.rq.RqMethod;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Static constraints of routing rule.
+ * <p>
+ * Finds out what request has to satisfy to be matched by the rule, so router
+ * can skip rules which can't match without applying them. Rules of unknown
+ * types have no constraints.
+ * </p>
+ * @since 1.0
+ */
+final class RuleShape {
+
+    /**
+     * Rule of route of unknown type.
+     */
+    private static final RtRule UNKNOWN = (line, headers) -> true;
+
+    /**
+     * Rule.
+     */
+    private final RtRule rule;
+
+    /**
+     * Shape of route.
+     * @param route Route
+     */
+    RuleShape(final RtPath route) {
+        this(RuleShape.rule(route));
+    }
+
+    /**
+     * Ctor.
+     * @param rule Rule
+     */
+    RuleShape(final RtRule rule) {
+        this.rule = rule;
+    }
+
+    /**
+     * Literal prefix any matched request path starts with.
+     * @return Prefix or empty if path is not constrained
+     */
+    Optional<String> prefix() {
+        Optional<String> res = Optional.empty();
+        if (this.rule instanceof RtRule.ByPath) {
+            res = new PathPattern(((RtRule.ByPath) this.rule).pattern()).prefix();
+        } else if (this.rule instanceof RtRule.Wrap) {
+            res = new RuleShape(((RtRule.Wrap) this.rule).origin()).prefix();
+        } else if (this.rule instanceof RtRule.All) {
+            for (final RtRule inner : ((RtRule.All) this.rule).rules()) {
+                final Optional<String> pfx = new RuleShape(inner).prefix();
+                if (pfx.isPresent()
+                    && pfx.get().length() > res.map(String::length).orElse(0)) {
+                    res = pfx;
+                }
+            }
+        } else if (this.rule instanceof RtRule.Any) {
+            res = RuleShape.common(((RtRule.Any) this.rule).rules());
+        }
+        return res;
+    }
+
+    /**
+     * Request methods matched by the rule.
+     * @return Methods or empty if method is not constrained
+     */
+    Optional<Set<RqMethod>> methods() {
+        Optional<Set<RqMethod>> res = Optional.empty();
+        if (this.rule instanceof ByMethodsRule) {
+            res = Optional.of(((ByMethodsRule) this.rule).methods());
+        } else if (this.rule instanceof ByMethodsRule.Standard) {
+            res = new RuleShape(((ByMethodsRule.Standard) this.rule).origin()).methods();
+        } else if (this.rule instanceof RtRule.Wrap) {
+            res = new RuleShape(((RtRule.Wrap) this.rule).origin()).methods();
+        } else if (this.rule instanceof RtRule.All) {
+            for (final RtRule inner : ((RtRule.All) this.rule).rules()) {
+                final Optional<Set<RqMethod>> mtds = new RuleShape(inner).methods();
+                if (mtds.isPresent()) {
+                    final Set<RqMethod> both = EnumSet.noneOf(RqMethod.class);
+                    both.addAll(mtds.get());
+                    res.ifPresent(both::retainAll);
+                    res = Optional.of(both);
+                }
+            }
+        } else if (this.rule instanceof RtRule.Any) {
+            res = RuleShape.union(((RtRule.Any) this.rule).rules());
+        }
+        return res;
+    }
+
+    /**
+     * Check if rule depends only on request method and path, so the same
+     * method and path are always matched or not matched by the rule.
+     * @return True if rule doesn't depend on headers or any other request parts
+     */
+    boolean byLine() {
+        final boolean res;
+        if (this.rule instanceof RtRule.ByPath || this.rule instanceof ByMethodsRule
+            || this.rule instanceof ByMethodsRule.Standard
+            || RtRule.FALLBACK.equals(this.rule)) {
+            res = true;
+        } else if (this.rule instanceof RtRule.Wrap) {
+            res = new RuleShape(((RtRule.Wrap) this.rule).origin()).byLine();
+        } else if (this.rule instanceof RtRule.All) {
+            res = RuleShape.byLine(((RtRule.All) this.rule).rules());
+        } else if (this.rule instanceof RtRule.Any) {
+            res = RuleShape.byLine(((RtRule.Any) this.rule).rules());
+        } else {
+            res = false;
+        }
+        return res;
+    }
+
+    /**
+     * Check if all rules depend only on request method and path.
+     * @param rules Rules
+     * @return True if all do
+     */
+    private static boolean byLine(final Iterable<RtRule> rules) {
+        boolean res = true;
+        for (final RtRule inner : rules) {
+            if (!new RuleShape(inner).byLine()) {
+                res = false;
+                break;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Union of methods of all rules.
+     * @param rules Rules
+     * @return Methods or empty if any rule doesn't constrain method
+     */
+    private static Optional<Set<RqMethod>> union(final Iterable<RtRule> rules) {
+        Optional<Set<RqMethod>> res = Optional.of(EnumSet.noneOf(RqMethod.class));
+        for (final RtRule inner : rules) {
+            final Optional<Set<RqMethod>> mtds = new RuleShape(inner).methods();
+            if (mtds.isPresent()) {
+                res.get().addAll(mtds.get());
+            } else {
+                res = Optional.empty();
+                break;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Common prefix of all rules.
+     * @param rules Rules
+     * @return Prefix or empty if any rule has no prefix
+     */
+    private static Optional<String> common(final Iterable<RtRule> rules) {
+        String res = null;
+        for (final RtRule inner : rules) {
+            final Optional<String> pfx = new RuleShape(inner).prefix();
+            if (!pfx.isPresent()) {
+                res = "";
+                break;
+            }
+            if (res == null) {
+                res = pfx.get();
+            } else {
+                int len = 0;
+                while (len < res.length() && len < pfx.get().length()
+                    && res.charAt(len) == pfx.get().charAt(len)) {
+                    len += 1;
+                }
+                res = res.substring(0, len);
+            }
+        }
+        return Optional.ofNullable(res).filter(str -> !str.isEmpty());
+    }
+
+    /**
+     * Rule of route.
+     * @param route Route
+     * @return Rule or rule without known constraints for routes of unknown types
+     */
+    private static RtRule rule(final RtPath route) {
+        final RtRule res;
+        if (route instanceof RtRulePath) {
+            res = ((RtRulePath) route).rule();
+        } else if (route instanceof RtTemplatePath) {
+            res = ((RtTemplatePath) route).rule();
+        } else if (route instanceof MeteredPath) {
+            res = RuleShape.rule(((MeteredPath) route).origin());
+        } else {
+            res = RuleShape.UNKNOWN;
+        }
+        return res;
+    }
+}
@@ -6,11 +6,14 @@ package com.artipie.http.rt;
 
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsFlat;
 import com.artipie.http.rs.RsStatus;
-import com.artipie.http.rs.RsWithBody;
-import com.artipie.http.rs.RsWithStatus;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +27,12 @@ import org.reactivestreams.Publisher;
  * in {@link Path} if {@link RtRule} matched.
  * </p>
  * <p>
+ * Routes are applied in order, first matched route responds. Routes with
+ * rules requiring literal path prefix are indexed by the prefix and routes are
+ * partitioned by request methods of their rules, so only routes which may match
+ * request method and path are applied.
+ * </p>
+ * <p>
  * Usage:
  * </p>
  * <pre><code>
@@ -41,9 +50,22 @@ import org.reactivestreams.Publisher;
 public final class SliceRoute implements Slice {
 
     /**
-     * Routes.
+     * Response for request which didn't match any route.
+     */
+    static final Response NOT_FOUND = new RsFlat.Builder()
+        .status(RsStatus.NOT_FOUND)
+        .body("not found", StandardCharsets.UTF_8)
+        .build();
+
+    /**
+     * Routes which may match each request method.
      */
-    private final List<RtPath> routes;
+    private final Map<RqMethod, RtTrie> methods;
+
+    /**
+     * All routes, for requests with unknown method.
+     */
+    private final RtTrie all;
 
     /**
      * New slice route.
@@ -58,24 +80,64 @@ public final class SliceRoute implements Slice {
      * @param routes Routes
      */
     public SliceRoute(final List<RtPath> routes) {
-        this.routes = routes;
+        this.all = new RtTrie(routes);
+        this.methods = SliceRoute.partitions(routes, this.all);
     }
 
     @Override
     public Response response(final String line,
         final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
-        return this.routes.stream()
+        return this.trie(line).candidates(line)
             .map(item -> item.response(line, headers, body))
             .filter(Optional::isPresent)
             .map(Optional::get)
             .findFirst()
-            .orElse(
-                new RsWithBody(
-                    new RsWithStatus(RsStatus.NOT_FOUND),
-                    "not found", StandardCharsets.UTF_8
-                )
-            );
+            .orElse(SliceRoute.NOT_FOUND);
+    }
+
+    /**
+     * Routes which may match request method.
+     * @param line Request line
+     * @return Routes trie
+     */
+    private RtTrie trie(final String line) {
+        RtTrie res;
+        try {
+            res = this.methods.get(new RequestLineFrom(line).method());
+        } catch (final IllegalArgumentException | IllegalStateException ex) {
+            res = this.all;
+        }
+        return res;
+    }
+
+    /**
+     * Partition routes by method constraints of their rules, routes without
+     * method constraint are added to each partition.
+     * @param routes Routes
+     * @param all Trie of all routes, shared by partitions with all routes
+     * @return Routes trie by method
+     */
+    private static Map<RqMethod, RtTrie> partitions(final List<RtPath> routes,
+        final RtTrie all) {
+        final Map<RqMethod, List<RtPath>> parts = new EnumMap<>(RqMethod.class);
+        for (final RqMethod method : RqMethod.values()) {
+            parts.put(method, new ArrayList<>(routes.size()));
+        }
+        for (final RtPath route : routes) {
+            for (final RqMethod method : new RuleShape(route).methods().orElse(RqMethod.ALL)) {
+                parts.get(method).add(route);
+            }
+        }
+        final Map<RqMethod, RtTrie> res = new EnumMap<>(RqMethod.class);
+        for (final Map.Entry<RqMethod, List<RtPath>> part : parts.entrySet()) {
+            if (part.getValue().size() == routes.size()) {
+                res.put(part.getKey(), all);
+            } else {
+                res.put(part.getKey(), new RtTrie(part.getValue()));
+            }
+        }
+        return res;
     }
 
     /**
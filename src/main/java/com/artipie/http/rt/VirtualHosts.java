@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.rq.RequestLineFrom;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+
+/**
+ * Routing slice by host name.
+ * <p>
+ * Selects target slice by host of absolute request URI or by {@code Host}
+ * header. Host is normalized: port and trailing dot are removed and letters
+ * are lower-cased. Exact names are looked up in hash map. Names like
+ * {@code *.example.com} match any subdomain of {@code example.com}, most
+ * specific of them wins; they are looked up by host suffixes after each dot,
+ * so lookup cost doesn't depend on number of hosts. Requests of unknown hosts
+ * are sent to fallback slice, which responds with {@code 404} by default.
+ * </p>
+ * @since 1.0
+ */
+public final class VirtualHosts implements Slice {
+
+    /**
+     * Wildcard name prefix.
+     */
+    private static final String WILDCARD = "*.";
+
+    /**
+     * Slices by exact host names.
+     */
+    private final Map<String, Slice> exact;
+
+    /**
+     * Slices by wildcard name suffixes starting with dot.
+     */
+    private final Map<String, Slice> wildcards;
+
+    /**
+     * Slice for unknown hosts.
+     */
+    private final Slice fallback;
+
+    /**
+     * Ctor.
+     * @param hosts Slices by host names
+     */
+    public VirtualHosts(final Map<String, Slice> hosts) {
+        this(hosts, (line, headers, body) -> SliceRoute.NOT_FOUND);
+    }
+
+    /**
+     * Ctor.
+     * @param hosts Slices by host names
+     * @param fallback Slice for unknown hosts
+     */
+    public VirtualHosts(final Map<String, Slice> hosts, final Slice fallback) {
+        this(VirtualHosts.names(hosts, false), VirtualHosts.names(hosts, true), fallback);
+    }
+
+    /**
+     * Ctor.
+     * @param exact Slices by exact host names
+     * @param wildcards Slices by wildcard name suffixes
+     * @param fallback Slice for unknown hosts
+     */
+    private VirtualHosts(final Map<String, Slice> exact, final Map<String, Slice> wildcards,
+        final Slice fallback) {
+        this.exact = exact;
+        this.wildcards = wildcards;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Response response(final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        return this.slice(VirtualHosts.host(line, headers)).response(line, headers, body);
+    }
+
+    /**
+     * Slice for host.
+     * @param host Normalized host name, may be empty
+     * @return Slice
+     */
+    private Slice slice(final String host) {
+        Slice res = this.exact.get(host);
+        if (res == null && !this.wildcards.isEmpty()) {
+            int dot = host.indexOf('.');
+            while (res == null && dot > 0) {
+                res = this.wildcards.get(host.substring(dot));
+                dot = host.indexOf('.', dot + 1);
+            }
+        }
+        if (res == null) {
+            res = this.fallback;
+        }
+        return res;
+    }
+
+    /**
+     * Normalized host of request.
+     * @param line Request line
+     * @param headers Request headers
+     * @return Host or empty string if request has no host
+     */
+    private static String host(final String line,
+        final Iterable<Map.Entry<String, String>> headers) {
+        final int space = line.indexOf(' ');
+        String res = null;
+        if (space > 0 && space + 1 < line.length() && line.charAt(space + 1) != '/') {
+            try {
+                res = new RequestLineFrom(line).uri().getRawAuthority();
+            } catch (final IllegalArgumentException ex) {
+                res = null;
+            }
+        }
+        if (res == null) {
+            for (final Map.Entry<String, String> header : headers) {
+                if ("Host".equalsIgnoreCase(header.getKey())) {
+                    res = header.getValue();
+                    break;
+                }
+            }
+        }
+        if (res == null) {
+            res = "";
+        }
+        return VirtualHosts.normalized(res);
+    }
+
+    /**
+     * Normalize host name.
+     * @param authority Host name with optional port and user info
+     * @return Lower-cased name without port and trailing dot
+     */
+    private static String normalized(final String authority) {
+        String res = authority.trim();
+        res = res.substring(res.lastIndexOf('@') + 1);
+        final int colon = res.lastIndexOf(':');
+        if (colon >= 0 && colon > res.lastIndexOf(']')) {
+            res = res.substring(0, colon);
+        }
+        if (res.endsWith(".")) {
+            res = res.substring(0, res.length() - 1);
+        }
+        return res.toLowerCase(Locale.US);
+    }
+
+    /**
+     * Normalized names.
+     * @param hosts Slices by host names
+     * @param wildcard Collect wildcard names if true, exact names otherwise
+     * @return Slices by exact names or by wildcard suffixes starting with dot
+     */
+    private static Map<String, Slice> names(final Map<String, Slice> hosts,
+        final boolean wildcard) {
+        final Map<String, Slice> res = new HashMap<>(hosts.size() * 2);
+        for (final Map.Entry<String, Slice> host : hosts.entrySet()) {
+            final String name = VirtualHosts.normalized(host.getKey());
+            if (wildcard && name.startsWith(VirtualHosts.WILDCARD)) {
+                res.put(name.substring(1), host.getValue());
+            } else if (!wildcard && !name.startsWith(VirtualHosts.WILDCARD)) {
+                res.put(name, host.getValue());
+            }
+        }
+        return res;
+    }
+}
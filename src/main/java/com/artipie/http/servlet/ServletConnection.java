@@ -7,9 +7,12 @@ package com.artipie.http.servlet;
 
 import com.artipie.http.Connection;
 import com.artipie.http.Headers;
+import com.artipie.http.misc.BufferedContent;
 import com.artipie.http.rs.RsStatus;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
@@ -37,7 +40,7 @@ final class ServletConnection implements Connection {
         this.rsp = rsp;
     }
 
-    // @checkstyle ReturnCountCheck (10 lines)
+    // @checkstyle ReturnCountCheck (20 lines)
     @Override
     @SuppressWarnings("PMD.OnlyOneReturn")
     public CompletionStage<Void> accept(final RsStatus status,
@@ -45,6 +48,12 @@ final class ServletConnection implements Connection {
         this.rsp.setStatus(Integer.parseInt(status.code()));
         headers.forEach(kv -> this.rsp.setHeader(kv.getKey(), kv.getValue()));
         try {
+            if (body instanceof BufferedContent) {
+                ServletConnection.write(
+                    this.rsp.getOutputStream(), ((BufferedContent) body).buffers()
+                );
+                return CompletableFuture.completedFuture(null);
+            }
             return new ReactiveOutputStream(this.rsp.getOutputStream())
                 .write(body, WriteGreed.SYSTEM.adaptive());
         } catch (final IOException iex) {
@@ -53,4 +62,23 @@ final class ServletConnection implements Connection {
             return failure;
         }
     }
+
+    /**
+     * Write materialized body buffers synchronously.
+     * @param out Output stream
+     * @param bufs Body buffers
+     * @throws IOException On write error
+     */
+    private static void write(final OutputStream out, final List<ByteBuffer> bufs)
+        throws IOException {
+        for (final ByteBuffer buf : bufs) {
+            if (buf.hasArray()) {
+                out.write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+            } else {
+                final byte[] bytes = new byte[buf.remaining()];
+                buf.get(bytes);
+                out.write(bytes);
+            }
+        }
+    }
 }
@@ -0,0 +1,289 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.headers.AcceptEncoding;
+import com.artipie.http.headers.ContentEncoding;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.headers.ContentType;
+import com.artipie.http.headers.Header;
+import com.artipie.http.misc.ContentCoding;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice which compresses response body according to {@code Accept-Encoding}
+ * request header.
+ * <p>
+ * Body is compressed chunk by chunk while streaming, so {@code Content-Length}
+ * is removed from compressed response. Responses which are already encoded,
+ * are partial ({@code Content-Range}), have compressed content type (archives,
+ * images, binary streams) or known size less than threshold are sent as is.
+ * Unparsable {@code Content-Length} is treated as unknown size.
+ * </p>
+ * @since 1.0
+ */
+public final class CompressSlice implements Slice {
+
+    /**
+     * Default size threshold in bytes.
+     */
+    private static final long THRESHOLD = 1024;
+
+    /**
+     * Vary header name.
+     */
+    private static final String VARY = "Vary";
+
+    /**
+     * Content range header name.
+     */
+    private static final String RANGE = "Content-Range";
+
+    /**
+     * Content types which are compressed already.
+     */
+    private static final Set<String> COMPRESSED = Collections.unmodifiableSet(
+        new HashSet<>(
+            Arrays.asList(
+                "application/gzip", "application/x-gzip", "application/zip",
+                "application/java-archive", "application/x-compressed",
+                "application/x-bzip2", "application/x-xz", "application/zstd",
+                "application/octet-stream"
+            )
+        )
+    );
+
+    /**
+     * Content type prefixes of compressed media.
+     */
+    private static final List<String> MEDIA = Arrays.asList("image/", "video/", "audio/");
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Min body size to compress.
+     */
+    private final long threshold;
+
+    /**
+     * Compress responses of origin slice.
+     * @param origin Origin slice
+     */
+    public CompressSlice(final Slice origin) {
+        this(origin, CompressSlice.THRESHOLD);
+    }
+
+    /**
+     * Compress responses of origin slice.
+     * @param origin Origin slice
+     * @param threshold Min body size in bytes to compress, it's applied only
+     *  if response has {@code Content-Length} header
+     */
+    public CompressSlice(final Slice origin, final long threshold) {
+        this.origin = origin;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Response response(final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final Response rsp = this.origin.response(line, headers, body);
+        final Response res;
+        if (new RequestLineFrom(line).method() == RqMethod.HEAD) {
+            res = rsp;
+        } else {
+            final Optional<ContentCoding> coding = new AcceptEncoding(headers).preferred();
+            res = con -> rsp.send(new CompressConnection(con, coding, this.threshold));
+        }
+        return res;
+    }
+
+    /**
+     * Check if content type is compressed already.
+     * @param type Content type header value
+     * @return True if content of this type is compressed
+     */
+    static boolean compressed(final String type) {
+        final String mime = type.split(";")[0].trim().toLowerCase(Locale.US);
+        return CompressSlice.COMPRESSED.contains(mime)
+            || CompressSlice.MEDIA.stream().anyMatch(mime::startsWith);
+    }
+
+    /**
+     * Connection which compresses response body.
+     * @since 1.0
+     */
+    private static final class CompressConnection implements Connection {
+
+        /**
+         * Origin connection.
+         */
+        private final Connection origin;
+
+        /**
+         * Coding accepted by client.
+         */
+        private final Optional<ContentCoding> coding;
+
+        /**
+         * Min body size to compress.
+         */
+        private final long threshold;
+
+        /**
+         * Ctor.
+         * @param origin Origin connection
+         * @param coding Coding accepted by client
+         * @param threshold Min body size to compress
+         */
+        CompressConnection(final Connection origin, final Optional<ContentCoding> coding,
+            final long threshold) {
+            this.origin = origin;
+            this.coding = coding;
+            this.threshold = threshold;
+        }
+
+        @Override
+        public CompletionStage<Void> accept(final RsStatus status, final Headers headers,
+            final Publisher<ByteBuffer> body) {
+            final CompletionStage<Void> res;
+            if (CompressConnection.compressible(status, headers)) {
+                final boolean small = new RqHeaders(headers, ContentLength.NAME).stream()
+                    .findFirst()
+                    .flatMap(CompressConnection::length)
+                    .map(len -> len < this.threshold)
+                    .orElse(false);
+                if (this.coding.isPresent() && !small) {
+                    final ContentCoding enc = this.coding.get();
+                    res = this.origin.accept(
+                        status,
+                        CompressConnection.encoded(headers, enc),
+                        enc.encode(body)
+                    );
+                } else {
+                    res = this.origin.accept(status, CompressConnection.vary(headers), body);
+                }
+            } else {
+                res = this.origin.accept(status, headers, body);
+            }
+            return res;
+        }
+
+        /**
+         * Check if response may be compressed.
+         * @param status Response status
+         * @param headers Response headers
+         * @return True if compressible
+         */
+        private static boolean compressible(final RsStatus status, final Headers headers) {
+            return status.success() && status != RsStatus.NO_CONTENT
+                && new RqHeaders(headers, ContentEncoding.NAME).isEmpty()
+                && new RqHeaders(headers, CompressSlice.RANGE).isEmpty()
+                && new RqHeaders(headers, ContentType.NAME).stream()
+                    .noneMatch(CompressSlice::compressed);
+        }
+
+        /**
+         * Parse content length.
+         * @param value Header value
+         * @return Length or empty if value is malformed
+         */
+        private static Optional<Long> length(final String value) {
+            Optional<Long> res;
+            try {
+                res = Optional.of(Long.parseLong(value.trim()));
+            } catch (final NumberFormatException ex) {
+                res = Optional.empty();
+            }
+            return res;
+        }
+
+        /**
+         * Headers of encoded response.
+         * @param headers Origin headers
+         * @param coding Content coding
+         * @return Headers without content length and with encoding
+         */
+        private static Headers encoded(final Headers headers, final ContentCoding coding) {
+            final List<Map.Entry<String, String>> list = CompressConnection.without(
+                headers, ContentLength.NAME, CompressSlice.VARY
+            );
+            list.add(new ContentEncoding(coding));
+            list.add(CompressConnection.varyHeader(headers));
+            return new Headers.From(list);
+        }
+
+        /**
+         * Add encoding to {@code Vary} header.
+         * @param headers Origin headers
+         * @return Headers with vary
+         */
+        private static Headers vary(final Headers headers) {
+            final List<Map.Entry<String, String>> list = CompressConnection.without(
+                headers, CompressSlice.VARY
+            );
+            list.add(CompressConnection.varyHeader(headers));
+            return new Headers.From(list);
+        }
+
+        /**
+         * Copy headers except specified names.
+         * @param headers Origin headers
+         * @param names Header names to skip
+         * @return Mutable list of headers
+         */
+        private static List<Map.Entry<String, String>> without(final Headers headers,
+            final String... names) {
+            final List<Map.Entry<String, String>> list = new ArrayList<>(10);
+            headers.forEach(
+                item -> {
+                    if (Arrays.stream(names).noneMatch(item.getKey()::equalsIgnoreCase)) {
+                        list.add(item);
+                    }
+                }
+            );
+            return list;
+        }
+
+        /**
+         * Vary header merged with existing values.
+         * @param headers Origin headers
+         * @return Vary header
+         */
+        private static Header varyHeader(final Headers headers) {
+            final List<String> vals = new ArrayList<>(new RqHeaders(headers, CompressSlice.VARY));
+            final boolean present = vals.stream().anyMatch(
+                val -> val.toLowerCase(Locale.US).contains("accept-encoding")
+            );
+            if (!present) {
+                vals.add(AcceptEncoding.NAME);
+            }
+            return new Header(CompressSlice.VARY, String.join(", ", vals));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.http.ArtipieHttpException;
+import com.artipie.http.Connection;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.headers.ContentEncoding;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.misc.ContentCoding;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithStatus;
+import com.artipie.http.rs.common.RsError;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice which decompresses request body according to {@code Content-Encoding}
+ * request header.
+ * <p>
+ * Body is decompressed chunk by chunk while origin slice consumes it.
+ * {@code Content-Encoding} and {@code Content-Length} headers are removed from
+ * the request, so origin slice sees plain body of unknown size
+ * (e.g. {@link ContentWithSize} reports no size). Request with unsupported
+ * encoding is rejected with {@code 415} status, malformed body with {@code 400}
+ * and body exceeding decompressed size limit with {@code 413} status
+ * if origin slice didn't start responding yet.
+ * </p>
+ * @since 1.0
+ */
+public final class DecompressSlice implements Slice {
+
+    /**
+     * Default decompressed size limit is 1Gb.
+     */
+    private static final long LIMIT = 1024L * 1024 * 1024;
+
+    /**
+     * Identity coding token.
+     */
+    private static final String IDENTITY = "identity";
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Max decompressed body size.
+     */
+    private final long limit;
+
+    /**
+     * Decompress request body with default size limit.
+     * @param origin Origin slice
+     */
+    public DecompressSlice(final Slice origin) {
+        this(origin, DecompressSlice.LIMIT);
+    }
+
+    /**
+     * Decompress request body.
+     * @param origin Origin slice
+     * @param limit Max decompressed body size in bytes
+     */
+    public DecompressSlice(final Slice origin, final long limit) {
+        this.origin = origin;
+        this.limit = limit;
+    }
+
+    @Override
+    public Response response(final String line,
+        final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final List<String> tokens = new RqHeaders(headers, ContentEncoding.NAME).stream()
+            .flatMap(DecompressSlice::tokens)
+            .filter(token -> !DecompressSlice.IDENTITY.equals(token))
+            .collect(Collectors.toList());
+        final Response res;
+        if (tokens.isEmpty()) {
+            res = this.origin.response(line, headers, body);
+        } else {
+            final List<Optional<ContentCoding>> codings = tokens.stream()
+                .map(ContentCoding::byToken)
+                .collect(Collectors.toList());
+            if (codings.stream().allMatch(Optional::isPresent)) {
+                Publisher<ByteBuffer> decoded = body;
+                for (int idx = codings.size() - 1; idx >= 0; --idx) {
+                    decoded = codings.get(idx).get().decode(decoded, this.limit);
+                }
+                final Response rsp = this.origin.response(
+                    line, DecompressSlice.plain(headers), decoded
+                );
+                res = con -> {
+                    final AtomicBoolean started = new AtomicBoolean();
+                    return rsp.send(
+                        (status, hdrs, rbody) -> {
+                            started.set(true);
+                            return con.accept(status, hdrs, rbody);
+                        }
+                    ).handle(
+                        (none, err) -> DecompressSlice.recover(con, started.get(), none, err)
+                    ).thenCompose(Function.identity());
+                };
+            } else {
+                res = new RsWithStatus(RsStatus.UNSUPPORTED_MEDIA_TYPE);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Recover from body decoding failure.
+     * @param con Connection
+     * @param started Origin response was started
+     * @param none Result
+     * @param err Error or null
+     * @return Completion
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static CompletionStage<Void> recover(final Connection con, final boolean started,
+        final Void none, final Throwable err) {
+        final CompletionStage<Void> next;
+        final Optional<ArtipieHttpException> http = DecompressSlice.cause(err);
+        if (http.isPresent() && !started) {
+            next = new RsError(http.get()).send(con);
+        } else if (err == null) {
+            next = CompletableFuture.completedFuture(none);
+        } else {
+            final CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(err);
+            next = failed;
+        }
+        return next;
+    }
+
+    /**
+     * Request headers without encoding and length.
+     * @param headers Origin headers
+     * @return Plain body headers
+     */
+    private static Headers plain(final Iterable<Map.Entry<String, String>> headers) {
+        final List<Map.Entry<String, String>> list = new ArrayList<>(10);
+        headers.forEach(
+            item -> {
+                if (!ContentEncoding.NAME.equalsIgnoreCase(item.getKey())
+                    && !ContentLength.NAME.equalsIgnoreCase(item.getKey())) {
+                    list.add(item);
+                }
+            }
+        );
+        return new Headers.From(list);
+    }
+
+    /**
+     * Find HTTP exception in error causes.
+     * @param err Error or null
+     * @return HTTP exception if found
+     */
+    private static Optional<ArtipieHttpException> cause(final Throwable err) {
+        Throwable cur = err;
+        while (cur != null && !(cur instanceof ArtipieHttpException)) {
+            cur = cur.getCause();
+        }
+        return Optional.ofNullable((ArtipieHttpException) cur);
+    }
+
+    /**
+     * Split comma separated header value into lower-cased tokens.
+     * @param value Header value
+     * @return Stream of tokens
+     */
+    private static Stream<String> tokens(final String value) {
+        return Arrays.stream(value.split(","))
+            .map(String::trim)
+            .filter(token -> !token.isEmpty())
+            .map(token -> token.toLowerCase(Locale.US));
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.misc.BoundedCache;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqHeaders;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+
+/**
+ * Slice decorator which remembers recent misses of origin slice.
+ * <p>
+ * If origin responds with {@code 404} to {@code GET} or {@code HEAD} request,
+ * the response is remembered, and requests with the same method and target
+ * are answered with the same status, headers and body without sending them
+ * to origin until the entry expires. It saves round trips of group and proxy
+ * slices for artifacts which are looked up but don't exist. Body of miss is
+ * remembered only if it's small, misses with large bodies are not cached.
+ * </p>
+ * <p>
+ * Misses are kept by request method, target, {@code Host} and
+ * {@code Authorization} headers, so a miss caused by credentials or virtual
+ * host is not replayed to other clients; misses which depend on other request
+ * headers should not be cached with this slice. Keys are hashed, so
+ * credentials are not kept in memory. Misses are kept in {@link BoundedCache},
+ * the oldest is evicted when it's full.
+ * </p>
+ * <p>
+ * Any {@code PUT}, {@code POST}, {@code PATCH} or {@code DELETE} request sent
+ * through this slice clears the cache when it starts and when its response is
+ * sent, since upload may create artifacts and metadata with other targets;
+ * misses of requests which were started before it are not remembered. The
+ * slice is meant for read mostly repositories, e.g. proxies and groups.
+ * </p>
+ * @since 1.0
+ */
+public final class NegativeCacheSlice implements Slice {
+
+    /**
+     * Methods which may change origin content.
+     */
+    private static final Set<RqMethod> UPLOAD = EnumSet.of(
+        RqMethod.PUT, RqMethod.POST, RqMethod.PATCH, RqMethod.DELETE
+    );
+
+    /**
+     * Request headers which are a part of miss key.
+     */
+    private static final List<String> KEY_HEADERS = Arrays.asList("Host", "Authorization");
+
+    /**
+     * Max size of remembered miss body.
+     */
+    private static final int BODY_LIMIT = 4 * 1024;
+
+    /**
+     * Origin slice.
+     */
+    private final Slice origin;
+
+    /**
+     * Misses by request key hash.
+     */
+    private final BoundedCache<String, Miss> misses;
+
+    /**
+     * Number of cache invalidations.
+     */
+    private final AtomicLong epoch;
+
+    /**
+     * Ctor.
+     * @param origin Origin slice
+     * @param ttl Time to live of miss
+     * @param size Max number of misses
+     */
+    public NegativeCacheSlice(final Slice origin, final Duration ttl, final int size) {
+        this.origin = origin;
+        this.misses = new BoundedCache<>(ttl, size);
+        this.epoch = new AtomicLong();
+    }
+
+    @Override
+    public Response response(final String line, final Iterable<Map.Entry<String, String>> headers,
+        final Publisher<ByteBuffer> body) {
+        final RequestLineFrom rql = new RequestLineFrom(line);
+        final RqMethod method = rql.method();
+        final Response res;
+        if (method == RqMethod.GET || method == RqMethod.HEAD) {
+            final String key = NegativeCacheSlice.key(rql, headers);
+            final Optional<Miss> miss = this.missed(key);
+            if (miss.isPresent()) {
+                res = miss.get().response();
+            } else {
+                final long current = this.epoch.get();
+                final Response rsp = this.origin.response(line, headers, body);
+                res = con -> rsp.send(
+                    (status, hdrs, rsbody) -> {
+                        final Publisher<ByteBuffer> out;
+                        if (status == RsStatus.NOT_FOUND && method == RqMethod.HEAD) {
+                            this.remember(key, new Miss(current, hdrs, new byte[0]));
+                            out = rsbody;
+                        } else if (status == RsStatus.NOT_FOUND) {
+                            out = this.captured(key, current, hdrs, rsbody);
+                        } else {
+                            out = rsbody;
+                        }
+                        return con.accept(status, hdrs, out);
+                    }
+                );
+            }
+        } else if (NegativeCacheSlice.UPLOAD.contains(method)) {
+            this.invalidate();
+            final Response rsp = this.origin.response(line, headers, body);
+            res = con -> rsp.send(con).whenComplete((nothing, err) -> this.invalidate());
+        } else {
+            res = this.origin.response(line, headers, body);
+        }
+        return res;
+    }
+
+    /**
+     * Find miss of request since the last invalidation.
+     * @param key Request key
+     * @return Miss if request was missed recently
+     */
+    private Optional<Miss> missed(final String key) {
+        return this.misses.get(key).filter(miss -> miss.epoch == this.epoch.get());
+    }
+
+    /**
+     * Pass miss body through and remember the miss when the body is sent,
+     * if the body is small.
+     * @param key Request key
+     * @param started Epoch when request started
+     * @param headers Response headers
+     * @param body Response body
+     * @return Body publisher
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Publisher<ByteBuffer> captured(final String key, final long started,
+        final Headers headers, final Publisher<ByteBuffer> body) {
+        return Flowable.defer(
+            () -> {
+                final ByteArrayOutputStream acc = new ByteArrayOutputStream();
+                final AtomicBoolean fits = new AtomicBoolean(true);
+                return Flowable.fromPublisher(body).doOnNext(
+                    buf -> {
+                        if (fits.get()) {
+                            if (acc.size() + buf.remaining() > NegativeCacheSlice.BODY_LIMIT) {
+                                fits.set(false);
+                            } else {
+                                final byte[] arr = new byte[buf.remaining()];
+                                buf.duplicate().get(arr);
+                                acc.write(arr, 0, arr.length);
+                            }
+                        }
+                    }
+                ).doOnComplete(
+                    () -> {
+                        if (fits.get()) {
+                            this.remember(key, new Miss(started, headers, acc.toByteArray()));
+                        }
+                    }
+                );
+            }
+        );
+    }
+
+    /**
+     * Remember miss if cache was not invalidated since request started.
+     * Misses of earlier epochs are ignored on lookup, so a miss saved
+     * concurrently with invalidation is never served.
+     * @param key Request key
+     * @param miss Miss
+     */
+    private void remember(final String key, final Miss miss) {
+        if (this.epoch.get() == miss.epoch) {
+            this.misses.put(key, miss);
+        }
+    }
+
+    /**
+     * Forget all misses.
+     */
+    private void invalidate() {
+        this.epoch.incrementAndGet();
+        this.misses.clear();
+    }
+
+    /**
+     * Miss key of request.
+     * @param rql Request line
+     * @param headers Request headers
+     * @return Hash of request method, target and key headers values
+     */
+    private static String key(final RequestLineFrom rql,
+        final Iterable<Map.Entry<String, String>> headers) {
+        final StringBuilder res = new StringBuilder(rql.method().value())
+            .append(' ').append(rql.uri().toString());
+        for (final String name : NegativeCacheSlice.KEY_HEADERS) {
+            res.append('\n');
+            for (final String value : new RqHeaders(headers, name)) {
+                res.append(value).append(',');
+            }
+        }
+        final MessageDigest sha;
+        try {
+            sha = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException err) {
+            throw new IllegalStateException(err);
+        }
+        return new BigInteger(
+            1, sha.digest(res.toString().getBytes(StandardCharsets.UTF_8))
+        ).toString(16);
+    }
+
+    /**
+     * Remembered miss.
+     * @since 1.0
+     */
+    private static final class Miss {
+
+        /**
+         * Epoch when request started.
+         */
+        private final long epoch;
+
+        /**
+         * Response headers.
+         */
+        private final List<Map.Entry<String, String>> headers;
+
+        /**
+         * Response body.
+         */
+        private final byte[] body;
+
+        /**
+         * Ctor.
+         * @param epoch Epoch when request started
+         * @param headers Response headers
+         * @param body Response body
+         */
+        Miss(final long epoch, final Headers headers, final byte[] body) {
+            this.epoch = epoch;
+            this.headers = new ArrayList<>(10);
+            headers.forEach(this.headers::add);
+            this.body = body;
+        }
+
+        /**
+         * Response which replays the miss.
+         * @return Response
+         */
+        Response response() {
+            return new RsWithBody(
+                new RsWithHeaders(
+                    new RsWithStatus(RsStatus.NOT_FOUND), new Headers.From(this.headers)
+                ),
+                new Content.From(this.body)
+            );
+        }
+    }
+}
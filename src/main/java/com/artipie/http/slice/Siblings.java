@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.http.misc.ContentCoding;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+/**
+ * Pre-compressed siblings of storage value.
+ * <p>
+ * Sibling of key is stored by the key with coding extension, e.g.
+ * {@code index.json.gz} for {@code index.json}, see
+ * {@link SliceDownload.Precompressed}.
+ * </p>
+ * @since 1.0
+ */
+final class Siblings {
+
+    /**
+     * Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Pre-compressed siblings mode.
+     */
+    private final SliceDownload.Precompressed mode;
+
+    /**
+     * Ctor.
+     * @param storage Storage
+     * @param mode Pre-compressed siblings mode
+     */
+    Siblings(final Storage storage, final SliceDownload.Precompressed mode) {
+        this.storage = storage;
+        this.mode = mode;
+    }
+
+    /**
+     * Remove siblings of all codings, so stale siblings are not served after
+     * the value was overwritten or deleted. Nothing is removed if siblings
+     * are not used, since then keys with coding extensions are regular values.
+     * @param key Origin key
+     * @return Completion
+     */
+    CompletionStage<Void> remove(final Key key) {
+        final CompletionStage<Void> res;
+        if (this.mode == SliceDownload.Precompressed.OFF) {
+            res = CompletableFuture.allOf();
+        } else {
+            res = this.siblings(key);
+        }
+        return res;
+    }
+
+    /**
+     * Remove existing siblings of all codings.
+     * @param key Origin key
+     * @return Completion
+     */
+    private CompletableFuture<Void> siblings(final Key key) {
+        return CompletableFuture.allOf(
+            Stream.of(ContentCoding.values())
+                .map(coding -> Siblings.key(key, coding))
+                .map(
+                    sibling -> this.storage.exists(sibling).thenCompose(
+                        exists -> {
+                            final CompletableFuture<Void> res;
+                            if (exists) {
+                                res = this.storage.delete(sibling);
+                            } else {
+                                res = CompletableFuture.allOf();
+                            }
+                            return res;
+                        }
+                    )
+                )
+                .toArray(CompletableFuture[]::new)
+        );
+    }
+
+    /**
+     * Sibling key.
+     * @param key Origin key
+     * @param coding Coding
+     * @return Sibling key
+     */
+    static Key key(final Key key, final ContentCoding coding) {
+        return new Key.From(String.format("%s.%s", key.string(), coding.extension()));
+    }
+}
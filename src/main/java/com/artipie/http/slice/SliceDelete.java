@@ -17,6 +17,10 @@ import org.reactivestreams.Publisher;
 
 /**
  * Delete decorator for Slice.
+ * <p>
+ * If slice serves pre-compressed siblings of values (see
+ * {@link SliceDownload.Precompressed}), siblings of the key are removed with it.
+ * </p>
  *
  * @since 0.16
  */
@@ -27,12 +31,27 @@ public final class SliceDelete implements Slice {
      */
     private final Storage storage;
 
+    /**
+     * Pre-compressed siblings mode.
+     */
+    private final SliceDownload.Precompressed mode;
+
     /**
      * Constructor.
      * @param storage Storage.
      */
     public SliceDelete(final Storage storage) {
+        this(storage, SliceDownload.Precompressed.OFF);
+    }
+
+    /**
+     * Constructor of slice which removes pre-compressed siblings.
+     * @param storage Storage.
+     * @param mode Pre-compressed siblings mode
+     */
+    public SliceDelete(final Storage storage, final SliceDownload.Precompressed mode) {
         this.storage = storage;
+        this.mode = mode;
     }
 
     @Override
@@ -47,7 +66,11 @@ public final class SliceDelete implements Slice {
                     final Response rsp;
                     if (exists) {
                         rsp = new AsyncResponse(
-                            this.storage.delete(key).thenApply(none -> StandardRs.NO_CONTENT)
+                            this.storage.delete(key)
+                                .thenCompose(
+                                    none -> new Siblings(this.storage, this.mode).remove(key)
+                                )
+                                .thenApply(none -> StandardRs.NO_CONTENT)
                         );
                     } else {
                         rsp = StandardRs.NOT_FOUND;
@@ -4,24 +4,41 @@
  */
 package com.artipie.http.slice;
 
+import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
 import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.async.AsyncResponse;
+import com.artipie.http.headers.AcceptEncoding;
+import com.artipie.http.headers.ContentEncoding;
 import com.artipie.http.headers.ContentFileName;
+import com.artipie.http.headers.Header;
+import com.artipie.http.misc.ContentCoding;
 import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rs.RsFull;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
 import com.artipie.http.rs.StandardRs;
+import com.jcabi.log.Logger;
+import java.net.URI;
+import java.net.URLConnection;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.reactivestreams.Publisher;
 
 /**
@@ -30,12 +47,40 @@ import org.reactivestreams.Publisher;
  * It converts URI path to storage {@link com.artipie.asto.Key}
  * and use it to access storage.
  * </p>
+ * <p>
+ * Optionally it may respond with pre-compressed sibling of the key, e.g.
+ * {@code index.json.gz} for {@code index.json}, if client accepts the encoding
+ * (see {@link Precompressed}). {@link SliceUpload} and {@link SliceDelete}
+ * built with the same mode remove siblings of the key they write, so siblings
+ * of mutable values, e.g. package metadata, are not served stale. Siblings are
+ * created only for values which are not compressed already, judging by key
+ * extension, see {@link CompressSlice}. Sibling created in background is
+ * removed if origin value size changed while it was created. Siblings of values
+ * written bypassing these slices should be removed by writer.
+ * </p>
  *
  * @see SliceUpload
  * @since 0.6
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  */
 public final class SliceDownload implements Slice {
 
+    /**
+     * Vary by encoding header.
+     */
+    private static final Header VARY = new Header("Vary", AcceptEncoding.NAME);
+
+    /**
+     * Extensions of compressed files which content type may be unknown.
+     */
+    private static final Set<String> COMPRESSED = new HashSet<>(
+        Arrays.asList(
+            "gz", "tgz", "zip", "jar", "war", "ear", "aar", "whl", "egg", "nupkg", "gem",
+            "crate", "bz2", "xz", "zst", "7z", "rar", "rpm", "deb", "apk", "png", "jpg",
+            "jpeg", "gif", "webp", "mp3", "mp4", "woff", "woff2"
+        )
+    );
+
     /**
      * Storage.
      */
@@ -46,6 +91,16 @@ public final class SliceDownload implements Slice {
      */
     private final Function<String, Key> transform;
 
+    /**
+     * Pre-compressed siblings mode.
+     */
+    private final Precompressed mode;
+
+    /**
+     * Siblings keys being created now.
+     */
+    private final Set<String> pending;
+
     /**
      * Slice by key from storage.
      *
@@ -63,49 +118,227 @@ public final class SliceDownload implements Slice {
      */
     public SliceDownload(final Storage storage,
         final Function<String, Key> transform) {
+        this(storage, transform, Precompressed.OFF);
+    }
+
+    /**
+     * Slice by key from storage with pre-compressed siblings lookup.
+     *
+     * @param storage Storage
+     * @param mode Pre-compressed siblings mode
+     */
+    public SliceDownload(final Storage storage, final Precompressed mode) {
+        this(storage, KeyFromPath::new, mode);
+    }
+
+    /**
+     * Slice by key from storage using custom URI path transformation
+     * and pre-compressed siblings lookup.
+     *
+     * @param storage Storage
+     * @param transform Transformation
+     * @param mode Pre-compressed siblings mode
+     */
+    public SliceDownload(final Storage storage,
+        final Function<String, Key> transform, final Precompressed mode) {
         this.storage = storage;
         this.transform = transform;
+        this.mode = mode;
+        this.pending = ConcurrentHashMap.newKeySet();
     }
 
     @Override
     public Response response(final String line,
         final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body) {
+        final List<ContentCoding> codings = this.codings(headers);
         return new AsyncResponse(
             CompletableFuture
                 .supplyAsync(new RequestLineFrom(line)::uri)
                 .thenCompose(
                     uri -> {
                         final Key key = this.transform.apply(uri.getPath());
-                        return this.storage.exists(key)
-                            .thenCompose(
-                                exist -> {
-                                    final CompletionStage<Response> result;
-                                    if (exist) {
-                                        result = this.storage.value(key)
-                                            .thenApply(
-                                                content -> new RsFull(
-                                                    RsStatus.OK,
-                                                    new Headers.From(
-                                                        new ContentFileName(uri)
-                                                    ),
-                                                    content
-                                                )
-                                            );
-                                    } else {
-                                        result = CompletableFuture.completedFuture(
-                                            new RsWithBody(
-                                                StandardRs.NOT_FOUND,
-                                                String.format("Key %s not found", key.string()),
-                                                StandardCharsets.UTF_8
-                                            )
-                                        );
-                                    }
-                                    return result;
-                                }
-                            );
+                        return this.encoded(key, uri, codings, 0).thenCompose(
+                            found -> found.<CompletionStage<Response>>map(
+                                CompletableFuture::completedFuture
+                            ).orElseGet(() -> this.plain(key, uri, codings))
+                        );
                     }
                 )
         );
     }
+
+    /**
+     * Respond with origin value.
+     * @param key Key
+     * @param uri Request URI
+     * @param codings Codings accepted by client
+     * @return Response future
+     */
+    private CompletionStage<Response> plain(final Key key, final URI uri,
+        final List<ContentCoding> codings) {
+        return this.storage.exists(key)
+            .thenCompose(
+                exist -> {
+                    final CompletionStage<Response> result;
+                    if (exist) {
+                        if (this.mode == Precompressed.CREATE && !codings.isEmpty()
+                            && SliceDownload.compressible(key)) {
+                            this.create(key, codings.get(0));
+                        }
+                        final Headers hdrs;
+                        if (this.mode == Precompressed.OFF) {
+                            hdrs = new Headers.From(new ContentFileName(uri));
+                        } else {
+                            hdrs = new Headers.From(
+                                new ContentFileName(uri), SliceDownload.VARY
+                            );
+                        }
+                        result = this.storage.value(key)
+                            .thenApply(content -> new RsFull(RsStatus.OK, hdrs, content));
+                    } else {
+                        result = CompletableFuture.completedFuture(
+                            new RsWithBody(
+                                StandardRs.NOT_FOUND,
+                                String.format("Key %s not found", key.string()),
+                                StandardCharsets.UTF_8
+                            )
+                        );
+                    }
+                    return result;
+                }
+            );
+    }
+
+    /**
+     * Find pre-compressed sibling and respond with it.
+     * @param key Origin key
+     * @param uri Request URI
+     * @param codings Codings accepted by client in order of preference
+     * @param idx Coding index to check
+     * @return Response future or empty if no siblings found
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private CompletionStage<Optional<Response>> encoded(final Key key, final URI uri,
+        final List<ContentCoding> codings, final int idx) {
+        final CompletionStage<Optional<Response>> res;
+        if (idx < codings.size()) {
+            final ContentCoding coding = codings.get(idx);
+            final Key sibling = Siblings.key(key, coding);
+            res = this.storage.exists(sibling).thenCompose(
+                exists -> {
+                    final CompletionStage<Optional<Response>> next;
+                    if (exists) {
+                        next = this.storage.value(sibling).thenApply(
+                            content -> Optional.of(
+                                new RsFull(
+                                    RsStatus.OK,
+                                    new Headers.From(
+                                        new ContentFileName(uri),
+                                        new ContentEncoding(coding),
+                                        SliceDownload.VARY
+                                    ),
+                                    content
+                                )
+                            )
+                        );
+                    } else {
+                        next = this.encoded(key, uri, codings, idx + 1);
+                    }
+                    return next;
+                }
+            );
+        } else {
+            res = CompletableFuture.completedFuture(Optional.empty());
+        }
+        return res;
+    }
+
+    /**
+     * Create pre-compressed sibling in background.
+     * @param key Origin key
+     * @param coding Coding
+     */
+    private void create(final Key key, final ContentCoding coding) {
+        final Key sibling = Siblings.key(key, coding);
+        if (this.pending.add(sibling.string())) {
+            this.storage.value(key).thenCompose(
+                content -> this.storage.save(sibling, new Content.From(coding.encode(content)))
+                    .thenCompose(none -> this.storage.size(key))
+                    .thenCompose(
+                        size -> {
+                            final CompletionStage<Void> res;
+                            if (content.size().map(size::equals).orElse(true)) {
+                                res = CompletableFuture.allOf();
+                            } else {
+                                res = this.storage.delete(sibling);
+                            }
+                            return res;
+                        }
+                    )
+            ).handle(
+                (none, err) -> {
+                    this.pending.remove(sibling.string());
+                    if (err != null) {
+                        Logger.warn(
+                            this, "Failed to create %s: %[exception]s", sibling.string(), err
+                        );
+                    }
+                    return none;
+                }
+            );
+        }
+    }
+
+    /**
+     * Check if value may be compressed, values of compressed types are not.
+     * @param key Key
+     * @return True if value type is not compressed by its key extension
+     */
+    private static boolean compressible(final Key key) {
+        final String name = key.string().toLowerCase(Locale.US);
+        return !SliceDownload.COMPRESSED.contains(name.substring(name.lastIndexOf('.') + 1))
+            && !Optional.ofNullable(URLConnection.guessContentTypeFromName(name))
+                .map(CompressSlice::compressed)
+                .orElse(false);
+    }
+
+    /**
+     * Codings accepted by client which could be looked up.
+     * @param headers Request headers
+     * @return Codings in order of preference
+     */
+    private List<ContentCoding> codings(final Iterable<Map.Entry<String, String>> headers) {
+        final List<ContentCoding> res;
+        if (this.mode == Precompressed.OFF) {
+            res = Collections.emptyList();
+        } else {
+            res = new AcceptEncoding(headers).values().stream()
+                .map(ContentCoding::byToken)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+        }
+        return res;
+    }
+
+    /**
+     * Pre-compressed siblings mode.
+     * @since 1.0
+     */
+    public enum Precompressed {
+        /**
+         * Siblings are not used.
+         */
+        OFF,
+        /**
+         * Respond with sibling if exists.
+         */
+        LOOKUP,
+        /**
+         * Respond with sibling if exists, create sibling for most preferred
+         * coding in background on first access otherwise.
+         */
+        CREATE
+    }
 }
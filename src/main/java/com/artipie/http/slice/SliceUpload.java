@@ -20,6 +20,11 @@ import org.reactivestreams.Publisher;
 
 /**
  * Slice to upload the resource to storage by key from path.
+ * <p>
+ * If slice serves pre-compressed siblings of values (see
+ * {@link SliceDownload.Precompressed}), siblings of the key are removed after
+ * upload, otherwise keys with coding extensions are regular values.
+ * </p>
  * @see SliceDownload
  * @since 0.6
  */
@@ -35,6 +40,11 @@ public final class SliceUpload implements Slice {
      */
     private final Function<String, Key> transform;
 
+    /**
+     * Pre-compressed siblings mode.
+     */
+    private final SliceDownload.Precompressed mode;
+
     /**
      * Slice by key from storage.
      * @param storage Storage
@@ -50,8 +60,30 @@ public final class SliceUpload implements Slice {
      */
     public SliceUpload(final Storage storage,
         final Function<String, Key> transform) {
+        this(storage, transform, SliceDownload.Precompressed.OFF);
+    }
+
+    /**
+     * Slice by key from storage which removes pre-compressed siblings.
+     * @param storage Storage
+     * @param mode Pre-compressed siblings mode
+     */
+    public SliceUpload(final Storage storage, final SliceDownload.Precompressed mode) {
+        this(storage, KeyFromPath::new, mode);
+    }
+
+    /**
+     * Slice by key from storage using custom URI path transformation
+     * which removes pre-compressed siblings.
+     * @param storage Storage
+     * @param transform Transformation
+     * @param mode Pre-compressed siblings mode
+     */
+    public SliceUpload(final Storage storage,
+        final Function<String, Key> transform, final SliceDownload.Precompressed mode) {
         this.storage = storage;
         this.transform = transform;
+        this.mode = mode;
     }
 
     @Override
@@ -61,7 +93,10 @@ public final class SliceUpload implements Slice {
         return new AsyncResponse(
             CompletableFuture.supplyAsync(() -> new RequestLineFrom(line).uri().getPath())
                 .thenApply(this.transform)
-                .thenCompose(key -> this.storage.save(key, new ContentWithSize(body, headers)))
+                .thenCompose(
+                    key -> this.storage.save(key, new ContentWithSize(body, headers))
+                        .thenCompose(none -> new Siblings(this.storage, this.mode).remove(key))
+                )
                 .thenApply(rsp -> new RsWithStatus(RsStatus.CREATED))
         );
     }
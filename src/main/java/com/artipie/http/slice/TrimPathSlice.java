@@ -4,22 +4,21 @@
  */
 package com.artipie.http.slice;
 
+import com.artipie.http.Headers;
 import com.artipie.http.Response;
 import com.artipie.http.Slice;
 import com.artipie.http.headers.Header;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rq.RequestLineFrom;
-import com.artipie.http.rq.RqHeaders;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
 import com.artipie.http.rs.RsWithStatus;
-import com.google.common.collect.Iterables;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.http.client.utils.URIBuilder;
@@ -34,6 +33,16 @@ import org.reactivestreams.Publisher;
  * <p>
  * The full path will be available as the value of {@code X-FullPath} header.
  * </p>
+ * <p>
+ * If path to trim has no regex meta characters, request line with origin-form
+ * path is rewritten by substring without regex matching and URI parsing.
+ * Trim slices which get headers of trimmed request as is, e.g. nested ones
+ * or behind routing slices, only check that path matches and pass request
+ * as is; directly nested trims get trimmed path from this slice, so request
+ * is parsed only once. Trimmed request is recognized by headers type, not by
+ * {@code X-FullPath} header, so the header sent by client doesn't disable
+ * trimming and headers are not scanned.
+ * </p>
  *
  * @since 0.8
  */
@@ -44,6 +53,12 @@ public final class TrimPathSlice implements Slice {
      */
     private static final String HDR_FULL_PATH = "X-FullPath";
 
+    /**
+     * Chars of literal path prefix besides ASCII letters and digits, they have
+     * no special meaning in regex and are not percent-encoded in request line.
+     */
+    private static final String LITERAL = "-_~/!&',;=:@";
+
     /**
      * Delegate slice.
      */
@@ -54,6 +69,11 @@ public final class TrimPathSlice implements Slice {
      */
     private final Pattern ptn;
 
+    /**
+     * Literal path prefix to trim, empty if trimmed by pattern.
+     */
+    private final Optional<String> prefix;
+
     /**
      * Trim URI path by first hit of path param.
      * @param slice Origin slice
@@ -62,7 +82,8 @@ public final class TrimPathSlice implements Slice {
     public TrimPathSlice(final Slice slice, final String path) {
         this(
             slice,
-            Pattern.compile(String.format("^/(?:%s)(\\/.*)?", TrimPathSlice.normalized(path)))
+            Pattern.compile(String.format("^/(?:%s)(\\/.*)?", TrimPathSlice.normalized(path))),
+            TrimPathSlice.literal(TrimPathSlice.normalized(path))
         );
     }
 
@@ -73,8 +94,19 @@ public final class TrimPathSlice implements Slice {
      * @param ptn Path to trim
      */
     public TrimPathSlice(final Slice slice, final Pattern ptn) {
+        this(slice, ptn, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param slice Origin slice
+     * @param ptn Path to trim
+     * @param prefix Literal path prefix to trim
+     */
+    private TrimPathSlice(final Slice slice, final Pattern ptn, final Optional<String> prefix) {
         this.slice = slice;
         this.ptn = ptn;
+        this.prefix = prefix;
     }
 
     @Override
@@ -83,43 +115,202 @@ public final class TrimPathSlice implements Slice {
         final Iterable<Map.Entry<String, String>> headers,
         final Publisher<ByteBuffer> body
     ) {
+        final Optional<String> raw = TrimPathSlice.raw(line);
+        final Response response;
+        if (headers instanceof FullPath) {
+            response = this.passed(
+                line,
+                raw.orElseGet(() -> new RequestLineFrom(line).uri().getPath()),
+                headers,
+                body
+            );
+        } else if (this.prefix.isPresent() && raw.isPresent()) {
+            response = this.literally(line, raw.get(), headers, body);
+        } else {
+            response = this.byPattern(line, headers, body);
+        }
+        return response;
+    }
+
+    /**
+     * Pass already trimmed request if path matches.
+     * @param line Request line
+     * @param path Request path
+     * @param headers Request headers
+     * @param body Request body
+     * @return Response
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Response passed(final String line, final String path,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final Response response;
+        if (this.matches(path)) {
+            response = this.next(line, path, headers, body);
+        } else {
+            response = this.failure(path);
+        }
+        return response;
+    }
+
+    /**
+     * Trim literal prefix of origin-form request path.
+     * @param line Request line
+     * @param path Raw request path
+     * @param headers Request headers
+     * @param body Request body
+     * @return Response
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Response literally(final String line, final String path,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final Response response;
+        if (this.matches(path)) {
+            final String rest = TrimPathSlice.asPath(path.substring(this.prefix.get().length()));
+            final int start = line.indexOf(' ') + 1;
+            response = this.next(
+                String.join(
+                    "", line.substring(0, start), rest, line.substring(start + path.length())
+                ),
+                rest,
+                new FullPath(headers, path),
+                body
+            );
+        } else {
+            response = this.failure(path);
+        }
+        return response;
+    }
+
+    /**
+     * Trim request path by pattern.
+     * @param line Request line
+     * @param headers Request headers
+     * @param body Request body
+     * @return Response
+     */
+    private Response byPattern(final String line,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
         final RequestLineFrom rline = new RequestLineFrom(line);
         final URI uri = rline.uri();
         final String full = uri.getPath();
         final Matcher matcher = this.ptn.matcher(full);
         final Response response;
-        final boolean recursion = !new RqHeaders(headers, TrimPathSlice.HDR_FULL_PATH).isEmpty();
-        if (matcher.matches() && recursion) {
-            response = this.slice.response(line, headers, body);
-        } else if (matcher.matches() && !recursion) {
-            response = this.slice.response(
+        if (matcher.matches()) {
+            final String rest = TrimPathSlice.asPath(matcher.group(1));
+            response = this.next(
                 new RequestLine(
                     rline.method().toString(),
-                    new URIBuilder(uri)
-                        .setPath(asPath(matcher.group(1)))
-                        .toString(),
+                    new URIBuilder(uri).setPath(rest).toString(),
                     rline.version()
                 ).toString(),
-                Iterables.concat(
-                    headers,
-                    Collections.singletonList(new Header(TrimPathSlice.HDR_FULL_PATH, full))
-                ),
+                rest,
+                new FullPath(headers, full),
                 body
             );
         } else {
-            response = new RsWithStatus(
-                new RsWithBody(
-                    String.format(
-                        "Request path %s was not matched to %s", full, this.ptn
-                    ),
-                    StandardCharsets.UTF_8
-                ),
-                RsStatus.INTERNAL_ERROR
-            );
+            response = this.failure(full);
         }
         return response;
     }
 
+    /**
+     * Send trimmed request to origin slice.
+     * @param line Request line
+     * @param path Request path
+     * @param headers Request headers
+     * @param body Request body
+     * @return Response
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Response next(final String line, final String path,
+        final Iterable<Map.Entry<String, String>> headers, final Publisher<ByteBuffer> body) {
+        final Response response;
+        if (this.slice instanceof TrimPathSlice) {
+            response = ((TrimPathSlice) this.slice).passed(line, path, headers, body);
+        } else {
+            response = this.slice.response(line, headers, body);
+        }
+        return response;
+    }
+
+    /**
+     * Check if path matches.
+     * @param path Request path
+     * @return True if matches
+     */
+    private boolean matches(final String path) {
+        final boolean res;
+        if (this.prefix.isPresent()) {
+            final String pfx = this.prefix.get();
+            res = path.startsWith(pfx)
+                && (path.length() == pfx.length() || path.charAt(pfx.length()) == '/');
+        } else {
+            res = this.ptn.matcher(path).matches();
+        }
+        return res;
+    }
+
+    /**
+     * Response for not matched path.
+     * @param path Request path
+     * @return Response
+     */
+    private Response failure(final String path) {
+        return new RsWithStatus(
+            new RsWithBody(
+                String.format(
+                    "Request path %s was not matched to %s", path, this.ptn
+                ),
+                StandardCharsets.UTF_8
+            ),
+            RsStatus.INTERNAL_ERROR
+        );
+    }
+
+    /**
+     * Raw path of origin-form request target.
+     * @param line Request line
+     * @return Path or empty if target is not in origin-form or path is encoded
+     */
+    private static Optional<String> raw(final String line) {
+        final int start = line.indexOf(' ') + 1;
+        final int end = line.indexOf(' ', start);
+        Optional<String> res = Optional.empty();
+        if (start > 0 && end > start && line.charAt(start) == '/') {
+            int stop = end;
+            for (int pos = start; pos < end; ++pos) {
+                final char chr = line.charAt(pos);
+                if (chr == '?' || chr == '#' || chr == '%') {
+                    stop = pos;
+                    break;
+                }
+            }
+            if (stop == end || line.charAt(stop) != '%') {
+                res = Optional.of(line.substring(start, stop));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Literal path prefix.
+     * @param path Normalized path to trim
+     * @return Prefix or empty if path has regex meta characters or chars
+     *  which may be percent-encoded
+     */
+    private static Optional<String> literal(final String path) {
+        Optional<String> res = Optional.of(String.format("/%s", path));
+        for (int pos = 0; pos < path.length(); ++pos) {
+            final char chr = path.charAt(pos);
+            if (chr > 'z' || !Character.isLetterOrDigit(chr)
+                && TrimPathSlice.LITERAL.indexOf(chr) < 0) {
+                res = Optional.empty();
+                break;
+            }
+        }
+        return res;
+    }
+
     /**
      * Normalize path: remove whitespaces and slash chars.
      * @param path Path
@@ -157,4 +348,20 @@ public final class TrimPathSlice implements Slice {
         }
         return result;
     }
+
+    /**
+     * Headers with full path of trimmed request.
+     * @since 1.0
+     */
+    private static final class FullPath extends Headers.Wrap {
+
+        /**
+         * Ctor.
+         * @param headers Request headers
+         * @param path Full path
+         */
+        FullPath(final Iterable<Map.Entry<String, String>> headers, final String path) {
+            super(new Headers.From(headers, new Header(TrimPathSlice.HDR_FULL_PATH, path)));
+        }
+    }
 }
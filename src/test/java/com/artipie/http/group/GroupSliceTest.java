@@ -11,6 +11,7 @@ import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.hm.SliceHasResponse;
 import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RequestLineFrom;
 import com.artipie.http.rq.RqMethod;
 import com.artipie.http.rs.RsStatus;
 import com.artipie.http.rs.RsWithBody;
@@ -20,9 +21,16 @@ import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
@@ -92,6 +100,451 @@ final class GroupSliceTest {
         );
     }
 
+    @Test
+    @Timeout(2)
+    void returnsFirstOrderedSuccessOfManyConcurrentMembers() {
+        // @checkstyle MagicNumberCheck (15 lines)
+        final List<Slice> members = new ArrayList<>(32);
+        for (int idx = 0; idx < 32; ++idx) {
+            final RsStatus status;
+            if (idx > 10 && idx % 2 == 1) {
+                status = RsStatus.OK;
+            } else {
+                status = RsStatus.NOT_FOUND;
+            }
+            members.add(slice(status, String.valueOf(idx), Duration.ofMillis(32 - idx)));
+        }
+        MatcherAssert.assertThat(
+            new GroupSlice(members),
+            new SliceHasResponse(
+                new RsHasBody("11", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/many")
+            )
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void hedgedRequestsOnlyFirstMemberIfItResponds() {
+        final AtomicInteger count = new AtomicInteger();
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                new GroupPolicy().hedged(Duration.ofSeconds(10)),
+                counted(slice(RsStatus.OK, "first", Duration.ZERO), count),
+                counted(slice(RsStatus.OK, "second", Duration.ZERO), count)
+            ),
+            new SliceHasResponse(
+                new RsHasBody("first", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/one")
+            )
+        );
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(1));
+    }
+
+    @Test
+    @Timeout(1)
+    void hedgedRequestsNextMemberOnFailure() {
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                new GroupPolicy().hedged(Duration.ofSeconds(10)),
+                slice(RsStatus.NOT_FOUND, "first", Duration.ZERO),
+                slice(RsStatus.OK, "second", Duration.ZERO)
+            ),
+            new SliceHasResponse(
+                new RsHasBody("second", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/two")
+            )
+        );
+    }
+
+    @Test
+    @Timeout(2)
+    void hedgedRequestsNextMemberAfterDelay() {
+        // @checkstyle MagicNumberCheck (20 lines)
+        final AtomicInteger count = new AtomicInteger();
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                new GroupPolicy().hedged(Duration.ofMillis(50)),
+                slice(RsStatus.OK, "slow", Duration.ofMillis(300)),
+                counted(slice(RsStatus.OK, "fast", Duration.ZERO), count),
+                counted(slice(RsStatus.OK, "never", Duration.ZERO), count)
+            ),
+            new SliceHasResponse(
+                new RsHasBody("slow", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/three")
+            )
+        );
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(1));
+    }
+
+    @Test
+    @Timeout(1)
+    void requestsCachedMemberAlone() {
+        final AtomicInteger first = new AtomicInteger();
+        final AtomicInteger second = new AtomicInteger();
+        final Slice group = new GroupSlice(
+            new GroupPolicy().cached(Duration.ofMinutes(1), 10),
+            counted(fresh(RsStatus.NOT_FOUND, "first"), first),
+            counted(fresh(RsStatus.OK, "second"), second)
+        );
+        for (int cnt = 0; cnt < 3; ++cnt) {
+            MatcherAssert.assertThat(
+                group,
+                new SliceHasResponse(
+                    new RsHasBody("second", StandardCharsets.UTF_8),
+                    new RequestLine(RqMethod.GET, "/lib.jar")
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            new ListOf<>(first.get(), second.get()),
+            new IsEqual<>(new ListOf<>(1, 3))
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void requestsOtherMembersIfCachedMemberFails() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Slice group = new GroupSlice(
+            new GroupPolicy().cached(Duration.ofMinutes(1), 10),
+            fresh(RsStatus.NOT_FOUND, "first"),
+            (line, headers, body) -> {
+                final Slice res;
+                if (calls.incrementAndGet() == 1) {
+                    res = fresh(RsStatus.OK, "second");
+                } else {
+                    res = fresh(RsStatus.NOT_FOUND, "gone");
+                }
+                return res.response(line, headers, body);
+            },
+            fresh(RsStatus.OK, "third")
+        );
+        MatcherAssert.assertThat(
+            group,
+            new SliceHasResponse(
+                new RsHasBody("second", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/lib.pom")
+            )
+        );
+        MatcherAssert.assertThat(
+            group,
+            new SliceHasResponse(
+                new RsHasBody("third", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/lib.pom")
+            )
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void probesMembersWithHead() {
+        final List<String> methods = new CopyOnWriteArrayList<>();
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                new GroupPolicy().probing(),
+                recorded("first", fresh(RsStatus.NOT_FOUND, "first"), methods),
+                recorded("second", fresh(RsStatus.OK, "second"), methods),
+                recorded("third", fresh(RsStatus.OK, "third"), methods)
+            ),
+            new SliceHasResponse(
+                new RsHasBody("second", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/blob")
+            )
+        );
+        MatcherAssert.assertThat(
+            methods.stream().filter(item -> item.startsWith("GET")).collect(Collectors.toList()),
+            new IsEqual<>(new ListOf<>("GET second"))
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void unorderedReturnsFastestSuccessResponse() {
+        // @checkstyle MagicNumberCheck (10 lines)
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                new GroupPolicy().unordered(),
+                slice(RsStatus.NOT_FOUND, "not-found", Duration.ofMillis(10)),
+                slice(RsStatus.OK, "slow", Duration.ofDays(1)),
+                slice(RsStatus.OK, "fast", Duration.ofMillis(50))
+            ),
+            new SliceHasResponse(
+                new RsHasBody("fast", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/mirror")
+            )
+        );
+    }
+
+    @Test
+    @Timeout(1)
+    void unorderedReturnsNotFoundIfAllFail() {
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                new GroupPolicy().unordered(),
+                fresh(RsStatus.NOT_FOUND, "one"),
+                fresh(RsStatus.INTERNAL_ERROR, "two")
+            ),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NOT_FOUND),
+                new RequestLine(RqMethod.GET, "/missing")
+            )
+        );
+    }
+
+    @Test
+    @Timeout(2)
+    void adaptiveRequestsHealthyMemberFirst() {
+        // @checkstyle MagicNumberCheck (20 lines)
+        final AtomicInteger count = new AtomicInteger();
+        final Slice group = new GroupSlice(
+            new GroupPolicy().hedged(Duration.ofSeconds(10)).adaptive(),
+            counted(
+                (line, headers, body) -> new SliceWithDelay(
+                    fresh(RsStatus.INTERNAL_ERROR, "down"), Duration.ofMillis(50)
+                ).response(line, headers, body),
+                count
+            ),
+            fresh(RsStatus.OK, "up")
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                group,
+                new SliceHasResponse(
+                    new RsHasBody("up", StandardCharsets.UTF_8),
+                    new RequestLine(RqMethod.GET, String.format("/adaptive/%d", idx))
+                )
+            );
+        }
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(1));
+    }
+
+    @Test
+    @Timeout(2)
+    void skipsMemberWithOpenBreaker() {
+        final AtomicInteger count = new AtomicInteger();
+        final Slice group = new GroupSlice(
+            new GroupPolicy().breaker(2, Duration.ofDays(1)),
+            counted(fresh(RsStatus.INTERNAL_ERROR, "down"), count),
+            fresh(RsStatus.OK, "up")
+        );
+        for (int idx = 0; idx < 4; ++idx) {
+            MatcherAssert.assertThat(
+                group,
+                new SliceHasResponse(
+                    new RsHasBody("up", StandardCharsets.UTF_8),
+                    new RequestLine(RqMethod.GET, String.format("/breaker/%d", idx))
+                )
+            );
+        }
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(2));
+    }
+
+    @Test
+    @Timeout(2)
+    void opensBreakerOfHangingMember() throws Exception {
+        // @checkstyle MagicNumberCheck (25 lines)
+        final AtomicInteger count = new AtomicInteger();
+        final Slice group = new GroupSlice(
+            new GroupPolicy().unordered()
+                .breaker(1, Duration.ofDays(1), Duration.ofMillis(50)),
+            counted((line, headers, body) -> con -> new CompletableFuture<>(), count),
+            fresh(RsStatus.OK, "alive")
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                group,
+                new SliceHasResponse(
+                    new RsHasBody("alive", StandardCharsets.UTF_8),
+                    new RequestLine(RqMethod.GET, String.format("/hanging/%d", idx))
+                )
+            );
+            Thread.sleep(150);
+        }
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(1));
+    }
+
+    @Test
+    @Timeout(2)
+    void closesBreakerWhenMemberRecovers() throws Exception {
+        // @checkstyle MagicNumberCheck (30 lines)
+        final AtomicInteger count = new AtomicInteger();
+        final Slice group = new GroupSlice(
+            new GroupPolicy().breaker(1, Duration.ofMillis(100)),
+            (line, headers, body) -> {
+                final Slice member;
+                if (count.incrementAndGet() == 1) {
+                    member = fresh(RsStatus.INTERNAL_ERROR, "down");
+                } else {
+                    member = fresh(RsStatus.OK, "back");
+                }
+                return member.response(line, headers, body);
+            },
+            fresh(RsStatus.OK, "other")
+        );
+        for (final String expected : new ListOf<>("other", "other")) {
+            MatcherAssert.assertThat(
+                group,
+                new SliceHasResponse(
+                    new RsHasBody(expected, StandardCharsets.UTF_8),
+                    new RequestLine(RqMethod.GET, "/recover")
+                )
+            );
+        }
+        Thread.sleep(150);
+        MatcherAssert.assertThat(
+            group,
+            new SliceHasResponse(
+                new RsHasBody("back", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/recover")
+            )
+        );
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(2));
+    }
+
+    @Test
+    @Timeout(1)
+    void limitedRequestsNextMemberOnlyOnFailure() {
+        final AtomicInteger count = new AtomicInteger();
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                new GroupPolicy().limited(2, 0),
+                fresh(RsStatus.NOT_FOUND, "first"),
+                fresh(RsStatus.OK, "second"),
+                counted(fresh(RsStatus.OK, "third"), count),
+                counted(fresh(RsStatus.OK, "fourth"), count)
+            ),
+            new SliceHasResponse(
+                new RsHasBody("second", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/limited")
+            )
+        );
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(0));
+    }
+
+    @Test
+    @Timeout(2)
+    void limitsInFlightMemberRequestsOfGroup() {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                new GroupPolicy().limited(0, 1),
+                tracked(fresh(RsStatus.NOT_FOUND, "one"), active, max),
+                tracked(fresh(RsStatus.INTERNAL_ERROR, "two"), active, max),
+                tracked(fresh(RsStatus.OK, "three"), active, max)
+            ),
+            new SliceHasResponse(
+                new RsHasBody("three", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/bounded")
+            )
+        );
+        MatcherAssert.assertThat(max.get(), new IsEqual<>(1));
+    }
+
+    @Test
+    void limitsCachedMemberRequests() {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+        final Slice group = new GroupSlice(
+            new GroupPolicy().cached(Duration.ofMinutes(1), 10).limited(0, 1),
+            tracked(fresh(RsStatus.NOT_FOUND, "first"), active, max),
+            tracked(
+                (line, headers, body) -> {
+                    final Slice res;
+                    if (calls.incrementAndGet() == 1) {
+                        res = fresh(RsStatus.OK, "second");
+                    } else {
+                        res = fresh(RsStatus.NOT_FOUND, "gone");
+                    }
+                    return res.response(line, headers, body);
+                },
+                active, max
+            ),
+            tracked(fresh(RsStatus.OK, "third"), active, max)
+        );
+        MatcherAssert.assertThat(
+            group,
+            new SliceHasResponse(
+                new RsHasBody("second", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/limited.pom")
+            )
+        );
+        MatcherAssert.assertThat(
+            group,
+            new SliceHasResponse(
+                new RsHasBody("third", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/limited.pom")
+            )
+        );
+        MatcherAssert.assertThat(max.get(), new IsEqual<>(1));
+    }
+
+    @Test
+    @Timeout(5)
+    void limitsProbedMemberRequests() {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        MatcherAssert.assertThat(
+            new GroupSlice(
+                new GroupPolicy().probing().limited(0, 1),
+                tracked(fresh(RsStatus.NOT_FOUND, "first"), active, max),
+                tracked(fresh(RsStatus.OK, "second"), active, max),
+                tracked(fresh(RsStatus.OK, "third"), active, max)
+            ),
+            new SliceHasResponse(
+                new RsHasBody("second", StandardCharsets.UTF_8),
+                new RequestLine(RqMethod.GET, "/probed")
+            )
+        );
+        MatcherAssert.assertThat(max.get(), new IsEqual<>(1));
+    }
+
+    private static Slice tracked(final Slice origin, final AtomicInteger active,
+        final AtomicInteger max) {
+        return (line, headers, body) -> con -> {
+            max.accumulateAndGet(active.incrementAndGet(), Math::max);
+            return CompletableFuture.runAsync(
+                () -> {
+                    try {
+                        Thread.sleep(Duration.ofMillis(20).toMillis());
+                    } catch (final InterruptedException ignore) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            ).thenCompose(
+                none -> origin.response(line, headers, body).send(
+                    (status, hdrs, rsbody) -> {
+                        active.decrementAndGet();
+                        return con.accept(status, hdrs, rsbody);
+                    }
+                )
+            );
+        };
+    }
+
+    private static Slice recorded(final String name, final Slice origin,
+        final List<String> methods) {
+        return (line, headers, body) -> {
+            methods.add(String.join(" ", new RequestLineFrom(line).method().value(), name));
+            return origin.response(line, headers, body);
+        };
+    }
+
+    private static Slice fresh(final RsStatus status, final String body) {
+        return (line, headers, rqbody) -> new RsWithBody(
+            new RsWithStatus(status), body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static Slice counted(final Slice origin, final AtomicInteger count) {
+        return (line, headers, body) -> {
+            count.incrementAndGet();
+            return origin.response(line, headers, body);
+        };
+    }
+
     private static Slice slice(final RsStatus status, final String body, final Duration delay) {
         return new SliceWithDelay(
             new SliceSimple(
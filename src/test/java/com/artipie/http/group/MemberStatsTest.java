@@ -0,0 +1,44 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MemberStats}.
+ * @since 1.0
+ */
+final class MemberStatsTest {
+
+    @Test
+    void scoresFailingMemberWorse() {
+        final MemberStats healthy = new MemberStats();
+        final MemberStats failing = new MemberStats();
+        healthy.record(TimeUnit.MILLISECONDS.toNanos(10), false);
+        failing.record(TimeUnit.MILLISECONDS.toNanos(10), true);
+        MatcherAssert.assertThat(
+            failing.score(),
+            Matchers.greaterThan(healthy.score())
+        );
+    }
+
+    @Test
+    void decaysScoreOfMemberWithoutObservations() throws Exception {
+        // @checkstyle MagicNumberCheck (10 lines)
+        final MemberStats stale = new MemberStats(Duration.ofMillis(10));
+        stale.record(TimeUnit.SECONDS.toNanos(1), true);
+        Thread.sleep(200);
+        final MemberStats fresh = new MemberStats(Duration.ofMillis(10));
+        fresh.record(TimeUnit.MILLISECONDS.toNanos(1), false);
+        MatcherAssert.assertThat(
+            stale.score(),
+            Matchers.lessThan(fresh.score())
+        );
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.group;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Permits}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class PermitsTest {
+
+    @Test
+    void runsWaitersInOrderOfWaiting() {
+        final Permits permits = new Permits(1);
+        final List<Integer> order = new ArrayList<>(3);
+        permits.run(() -> order.add(0));
+        for (int idx = 1; idx < 3; ++idx) {
+            final int num = idx;
+            permits.run(
+                () -> {
+                    order.add(num);
+                    permits.release();
+                }
+            );
+        }
+        MatcherAssert.assertThat(order, new IsEqual<>(new ListOf<>(0)));
+        permits.release();
+        MatcherAssert.assertThat(order, new IsEqual<>(new ListOf<>(0, 1, 2)));
+    }
+
+    @Test
+    void runsManySynchronousWaitersWithoutRecursion() {
+        final Permits permits = new Permits(1);
+        final AtomicInteger count = new AtomicInteger();
+        final int total = 100_000;
+        permits.run(() -> { });
+        for (int idx = 0; idx < total; ++idx) {
+            permits.run(
+                () -> {
+                    count.incrementAndGet();
+                    permits.release();
+                }
+            );
+        }
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(0));
+        permits.release();
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(total));
+    }
+}
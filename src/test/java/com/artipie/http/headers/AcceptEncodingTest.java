@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.headers;
+
+import com.artipie.http.Headers;
+import com.artipie.http.misc.ContentCoding;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link AcceptEncoding}.
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class AcceptEncodingTest {
+
+    @Test
+    void parsesAndSortsValues() {
+        MatcherAssert.assertThat(
+            new AcceptEncoding(
+                new Headers.From(
+                    new Header("Accept-Encoding", "deflate;q=0.5, br;q=0.8"),
+                    new Header("Accept-Encoding", "GZIP, identity;q=0")
+                )
+            ).values(),
+            Matchers.contains("gzip", "br", "deflate")
+        );
+    }
+
+    @Test
+    void findsPreferredSupportedCoding() {
+        MatcherAssert.assertThat(
+            new AcceptEncoding(
+                new Headers.From("Accept-Encoding", "br, deflate;q=0.9, gzip;q=0.1")
+            ).preferred(),
+            new IsEqual<>(Optional.of(ContentCoding.DEFLATE))
+        );
+    }
+
+    @Test
+    void resolvesWildcard() {
+        MatcherAssert.assertThat(
+            new AcceptEncoding(
+                new Headers.From("Accept-Encoding", "gzip;q=0, *")
+            ).preferred(),
+            new IsEqual<>(Optional.of(ContentCoding.DEFLATE))
+        );
+    }
+
+    @Test
+    void emptyIfNoHeader() {
+        MatcherAssert.assertThat(
+            new AcceptEncoding(Headers.EMPTY).preferred(),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+}
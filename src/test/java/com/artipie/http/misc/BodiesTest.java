@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import com.artipie.asto.ext.PublisherAs;
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+
+/**
+ * Test case for {@link Bodies}.
+ *
+ * @since 1.0
+ */
+final class BodiesTest {
+
+    @Test
+    void emptyCompletesWithoutItems() {
+        MatcherAssert.assertThat(
+            Flowable.fromPublisher(Bodies.EMPTY).toList().blockingGet(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void arrayRespectsDemand() {
+        final TestSubscriber<ByteBuffer> sub = new TestSubscriber<>(0);
+        new Bodies.Array(BodiesTest.ascii("a"), BodiesTest.ascii("b")).subscribe(sub);
+        sub.request(1);
+        MatcherAssert.assertThat(
+            "Emitted more than requested", sub.values(), Matchers.hasSize(1)
+        );
+        sub.request(1);
+        MatcherAssert.assertThat("Didn't complete", sub.completions(), new IsEqual<>(1L));
+    }
+
+    @Test
+    void concatsSources() {
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                new Bodies.Concat(
+                    new ListOf<Publisher<ByteBuffer>>(
+                        new Bodies.Single(BodiesTest.ascii("one")),
+                        Bodies.EMPTY,
+                        new Bodies.Array(BodiesTest.ascii("-"), BodiesTest.ascii("two")),
+                        Flowable.just(BodiesTest.ascii("!"))
+                    )
+                )
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("one-two!")
+        );
+    }
+
+    @Test
+    void concatsManyEmptySourcesWithoutRecursion() {
+        final int count = 100_000;
+        final List<Publisher<ByteBuffer>> sources = Collections.nCopies(count, Bodies.EMPTY);
+        MatcherAssert.assertThat(
+            Flowable.fromPublisher(new Bodies.Concat(sources)).toList().blockingGet(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void mapsItems() {
+        MatcherAssert.assertThat(
+            new PublisherAs(
+                new Bodies.Map(
+                    new Bodies.Array(BodiesTest.ascii("ab"), BodiesTest.ascii("cd")),
+                    buf -> BodiesTest.ascii(
+                        new String(buf.array(), StandardCharsets.US_ASCII).toUpperCase(Locale.US)
+                    )
+                )
+            ).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("ABCD")
+        );
+    }
+
+    /**
+     * ASCII buffer.
+     * @param str String
+     * @return Buffer
+     */
+    private static ByteBuffer ascii(final String str) {
+        return ByteBuffer.wrap(str.getBytes(StandardCharsets.US_ASCII));
+    }
+}
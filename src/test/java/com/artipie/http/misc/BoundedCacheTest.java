@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BoundedCache}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class BoundedCacheTest {
+
+    @Test
+    void evictsOldestEntry() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+        cache.put("first", 1);
+        cache.put("second", 2);
+        cache.get("first");
+        cache.put("third", 3);
+        MatcherAssert.assertThat(cache.get("first"), new IsEqual<>(Optional.empty()));
+        MatcherAssert.assertThat(cache.get("second"), new IsEqual<>(Optional.of(2)));
+        MatcherAssert.assertThat(cache.get("third"), new IsEqual<>(Optional.of(3)));
+    }
+
+    @Test
+    void keepsSizeBound() {
+        final BoundedCache<Integer, Integer> cache = new BoundedCache<>(10);
+        for (int idx = 0; idx < 1000; ++idx) {
+            cache.put(idx % 20, idx);
+        }
+        MatcherAssert.assertThat(cache.size(), new IsEqual<>(10));
+        MatcherAssert.assertThat(cache.get(19), new IsEqual<>(Optional.of(999)));
+    }
+
+    @Test
+    void expiresEntries() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(Duration.ZERO, 10);
+        cache.put("key", 1);
+        MatcherAssert.assertThat(cache.get("key"), new IsEqual<>(Optional.empty()));
+        MatcherAssert.assertThat(cache.size(), new IsEqual<>(0));
+    }
+
+    @Test
+    void removesOnlyMatchingValue() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        cache.put("key", 1);
+        cache.remove("key", 2);
+        MatcherAssert.assertThat(cache.get("key"), new IsEqual<>(Optional.of(1)));
+        cache.remove("key", 1);
+        MatcherAssert.assertThat(cache.get("key"), new IsEqual<>(Optional.empty()));
+    }
+
+    @Test
+    void clearsEntries() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        cache.put("one", 1);
+        cache.put("two", 2);
+        cache.clear();
+        MatcherAssert.assertThat(cache.size(), new IsEqual<>(0));
+        MatcherAssert.assertThat(cache.get("one"), new IsEqual<>(Optional.empty()));
+    }
+
+    @Test
+    void keepsNothingWithZeroSize() {
+        final BoundedCache<String, Integer> cache = new BoundedCache<>(0);
+        cache.put("key", 1);
+        MatcherAssert.assertThat(cache.get("key"), new IsEqual<>(Optional.empty()));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import com.artipie.asto.ext.PublisherAs;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BufferedContent}.
+ *
+ * @since 1.0
+ */
+final class BufferedContentTest {
+
+    @Test
+    void hasSizeOfAllBuffers() {
+        MatcherAssert.assertThat(
+            new BufferedContent(ByteBuffer.allocate(3), ByteBuffer.allocate(4)).size(),
+            new IsEqual<>(Optional.of(7L))
+        );
+    }
+
+    @Test
+    void publishesManyTimes() {
+        final BufferedContent content = new BufferedContent(
+            ByteBuffer.wrap("one".getBytes(StandardCharsets.US_ASCII)),
+            ByteBuffer.wrap("two".getBytes(StandardCharsets.US_ASCII))
+        );
+        new PublisherAs(content).asciiString().toCompletableFuture().join();
+        MatcherAssert.assertThat(
+            new PublisherAs(content).asciiString().toCompletableFuture().join(),
+            new IsEqual<>("onetwo")
+        );
+    }
+
+    @Test
+    void doesNotConsumeBuffers() {
+        final BufferedContent content = new BufferedContent(new byte[10]);
+        content.buffers().get(0).position(10);
+        MatcherAssert.assertThat(
+            content.buffers().get(0).remaining(),
+            new IsEqual<>(10)
+        );
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import io.reactivex.Flowable;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subscribers.TestSubscriber;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Test case for {@link Coalesced}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class CoalescedTest {
+
+    @Test
+    void coalescesSmallChunks() {
+        MatcherAssert.assertThat(
+            Flowable.fromPublisher(
+                new Coalesced(
+                    Flowable.range(0, 10).map(idx -> ByteBuffer.allocate(100)),
+                    256, Duration.ofMinutes(1)
+                )
+            ).map(ByteBuffer::remaining).toList().blockingGet(),
+            Matchers.contains(200, 200, 200, 200, 200)
+        );
+    }
+
+    @Test
+    void passesLargeChunks() {
+        MatcherAssert.assertThat(
+            Flowable.fromPublisher(
+                new Coalesced(
+                    Flowable.just(
+                        ByteBuffer.allocate(10), ByteBuffer.allocate(1000),
+                        ByteBuffer.allocate(20), ByteBuffer.allocate(30)
+                    ),
+                    256, Duration.ofMinutes(1)
+                )
+            ).map(ByteBuffer::remaining).toList().blockingGet(),
+            Matchers.contains(10, 1000, 50)
+        );
+    }
+
+    @Test
+    void keepsBytesOrder() {
+        MatcherAssert.assertThat(
+            Flowable.fromPublisher(
+                new Coalesced(
+                    Flowable.just("ab", "cd", "efghij", "k")
+                        .map(str -> ByteBuffer.wrap(str.getBytes(StandardCharsets.US_ASCII))),
+                    4, Duration.ofMinutes(1)
+                )
+            ).map(buf -> new String(buf.array(), 0, buf.remaining(), StandardCharsets.US_ASCII))
+                .toList().blockingGet(),
+            Matchers.contains("abcd", "efghij", "k")
+        );
+    }
+
+    @Test
+    void flushesAfterLatency() {
+        final TestScheduler scheduler = new TestScheduler();
+        final PublishProcessor<ByteBuffer> source = PublishProcessor.create();
+        final TestSubscriber<ByteBuffer> sub = Flowable.fromPublisher(
+            new Coalesced(source, 256, Duration.ofMillis(5), scheduler)
+        ).test();
+        source.onNext(ByteBuffer.allocate(10));
+        MatcherAssert.assertThat(
+            "Chunk was flushed before latency", sub.values(), Matchers.empty()
+        );
+        scheduler.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+        MatcherAssert.assertThat("Chunk was not flushed", sub.values(), Matchers.hasSize(1));
+    }
+
+    @Test
+    void rejectsNonPositiveDemand() {
+        final PublishProcessor<ByteBuffer> source = PublishProcessor.create();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        new Coalesced(source, 256, Duration.ofMinutes(1)).subscribe(
+            new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(final Subscription sub) {
+                    sub.request(0);
+                }
+
+                @Override
+                public void onNext(final ByteBuffer chunk) {
+                    throw new IllegalStateException("Unexpected chunk");
+                }
+
+                @Override
+                public void onError(final Throwable err) {
+                    error.set(err);
+                }
+
+                @Override
+                public void onComplete() {
+                    throw new IllegalStateException("Unexpected completion");
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "Error was not signalled",
+            error.get(),
+            Matchers.instanceOf(IllegalArgumentException.class)
+        );
+        MatcherAssert.assertThat(
+            "Origin was not cancelled", source.hasSubscribers(), Matchers.is(false)
+        );
+    }
+}
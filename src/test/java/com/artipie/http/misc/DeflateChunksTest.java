@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link DeflateChunks}.
+ * @since 1.0
+ */
+final class DeflateChunksTest {
+
+    @Test
+    void compressesChunksToGzip() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflateChunks enc = new DeflateChunks(true, BufferPool.SHARED)) {
+            for (final String chunk : new String[] {"hello ", "world"}) {
+                final ByteBuffer buf = enc.push(
+                    ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8))
+                );
+                out.write(buf.array(), 0, buf.remaining());
+            }
+            final ByteBuffer last = enc.finish();
+            out.write(last.array(), 0, last.remaining());
+        }
+        final ByteArrayOutputStream res = new ByteArrayOutputStream();
+        try (GZIPInputStream gzip = new GZIPInputStream(
+            new ByteArrayInputStream(out.toByteArray())
+        )) {
+            // @checkstyle MagicNumberCheck (1 line)
+            final byte[] buf = new byte[64];
+            int len = gzip.read(buf);
+            while (len >= 0) {
+                res.write(buf, 0, len);
+                len = gzip.read(buf);
+            }
+        }
+        MatcherAssert.assertThat(
+            new String(res.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>("hello world")
+        );
+    }
+
+    @Test
+    void producesNothingAfterClose() {
+        final DeflateChunks enc = new DeflateChunks(true, BufferPool.SHARED);
+        enc.close();
+        enc.close();
+        MatcherAssert.assertThat(
+            enc.push(ByteBuffer.wrap("data".getBytes(StandardCharsets.UTF_8))).remaining()
+                + enc.finish().remaining(),
+            new IsEqual<>(0)
+        );
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import com.artipie.http.ArtipieHttpException;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link InflateChunks}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class InflateChunksTest {
+
+    @Test
+    void decodesConcatenatedGzipMembersInSmallChunks() throws Exception {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(InflateChunksTest.gzip("hello ".getBytes(StandardCharsets.UTF_8)));
+        body.write(InflateChunksTest.gzip("world".getBytes(StandardCharsets.UTF_8)));
+        final byte[] data = body.toByteArray();
+        MatcherAssert.assertThat(
+            InflateChunksTest.decode(
+                ContentCoding.GZIP,
+                Flowable.range(0, data.length)
+                    .map(idx -> ByteBuffer.wrap(data, idx, 1).slice())
+            ),
+            new IsEqual<>("hello world")
+        );
+    }
+
+    @Test
+    void rejectsCorruptGzipTrailer() throws Exception {
+        final byte[] data = InflateChunksTest.gzip("data".getBytes(StandardCharsets.UTF_8));
+        data[data.length - 8] ^= 1;
+        MatcherAssert.assertThat(
+            InflateChunksTest.failure(ContentCoding.GZIP, data),
+            new IsEqual<>(RsStatus.BAD_REQUEST)
+        );
+    }
+
+    @Test
+    void rejectsTruncatedGzipTrailer() throws Exception {
+        final byte[] data = InflateChunksTest.gzip("data".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            InflateChunksTest.failure(
+                ContentCoding.GZIP, Arrays.copyOf(data, data.length - 3)
+            ),
+            new IsEqual<>(RsStatus.BAD_REQUEST)
+        );
+    }
+
+    @Test
+    void rejectsDataAfterZlibStream() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream zip = new DeflaterOutputStream(out)) {
+            zip.write("data".getBytes(StandardCharsets.UTF_8));
+        }
+        out.write("tail".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            InflateChunksTest.failure(ContentCoding.DEFLATE, out.toByteArray()),
+            new IsEqual<>(RsStatus.BAD_REQUEST)
+        );
+    }
+
+    @Test
+    void pullsChunkOutputInBoundedSlices() throws Exception {
+        final int size = 1024 * 1024;
+        final BufferPool pool = new BufferPool(1024, 2);
+        try (InflateChunks dec = new InflateChunks(true, size, pool)) {
+            final ByteBuffer chunk = ByteBuffer.wrap(InflateChunksTest.gzip(new byte[size]));
+            int total = 0;
+            ByteBuffer next = dec.next(chunk);
+            while (next.hasRemaining()) {
+                MatcherAssert.assertThat(next.remaining(), Matchers.lessThanOrEqualTo(1024));
+                total += next.remaining();
+                next = dec.next(chunk);
+            }
+            dec.finish();
+            MatcherAssert.assertThat(total, new IsEqual<>(size));
+        }
+    }
+
+    @Test
+    void producesNothingAfterClose() throws Exception {
+        final InflateChunks dec = new InflateChunks(true, 100, BufferPool.SHARED);
+        dec.close();
+        dec.close();
+        MatcherAssert.assertThat(
+            dec.next(
+                ByteBuffer.wrap(InflateChunksTest.gzip("data".getBytes(StandardCharsets.UTF_8)))
+            ).remaining(),
+            new IsEqual<>(0)
+        );
+    }
+
+    private static String decode(final ContentCoding coding, final Flowable<ByteBuffer> body) {
+        return Flowable.fromPublisher(coding.decode(body, Long.MAX_VALUE))
+            .reduce(
+                new StringBuilder(),
+                (acc, buf) -> acc.append(StandardCharsets.UTF_8.decode(buf))
+            ).blockingGet().toString();
+    }
+
+    private static RsStatus failure(final ContentCoding coding, final byte[] data) {
+        return Assertions.assertThrows(
+            ArtipieHttpException.class,
+            () -> InflateChunksTest.decode(coding, Flowable.just(ByteBuffer.wrap(data)))
+        ).status();
+    }
+
+    private static byte[] gzip(final byte[] data) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+            zip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
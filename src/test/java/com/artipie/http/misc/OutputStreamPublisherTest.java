@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.misc;
+
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Test case for {@link OutputStreamPublisher}.
+ *
+ * @since 1.0
+ */
+final class OutputStreamPublisherTest {
+
+    @Test
+    void publishesFixedSizeChunks() {
+        // @checkstyle MagicNumberCheck (20 lines)
+        final List<ByteBuffer> chunks = Flowable.fromPublisher(
+            new OutputStreamPublisher(
+                out -> {
+                    for (int idx = 0; idx < 1000; ++idx) {
+                        out.write(new byte[25]);
+                    }
+                },
+                Runnable::run,
+                new BufferPool(10_000, 1)
+            )
+        ).toList().blockingGet();
+        MatcherAssert.assertThat(
+            chunks.stream().map(ByteBuffer::remaining).toArray(),
+            Matchers.arrayContaining(10_000, 10_000, 5000)
+        );
+    }
+
+    @Test
+    void failsWriterOnCancel() throws Exception {
+        final CompletableFuture<Throwable> error = new CompletableFuture<>();
+        // @checkstyle MagicNumberCheck (20 lines)
+        Flowable.fromPublisher(
+            new OutputStreamPublisher(
+                out -> {
+                    try {
+                        while (true) {
+                            out.write(new byte[100]);
+                        }
+                    } catch (final IOException err) {
+                        error.complete(err);
+                        throw err;
+                    }
+                }
+            )
+        ).take(2).blockingSubscribe();
+        MatcherAssert.assertThat(
+            error.get(1, TimeUnit.SECONDS).getMessage(),
+            new IsEqual<>("Subscription was cancelled")
+        );
+    }
+
+    @Test
+    void signalsErrorOnNonPositiveRequest() throws Exception {
+        final CompletableFuture<Throwable> error = new CompletableFuture<>();
+        new OutputStreamPublisher(out -> out.write(new byte[1])).subscribe(
+            new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(final Subscription sub) {
+                    sub.request(0);
+                }
+
+                @Override
+                public void onNext(final ByteBuffer item) {
+                    error.completeExceptionally(new IllegalStateException("Unexpected item"));
+                }
+
+                @Override
+                public void onError(final Throwable err) {
+                    error.complete(err);
+                }
+
+                @Override
+                public void onComplete() {
+                    error.completeExceptionally(new IllegalStateException("Unexpected completion"));
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            error.get(1, TimeUnit.SECONDS),
+            Matchers.instanceOf(IllegalArgumentException.class)
+        );
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rs;
+
+import com.artipie.http.Response;
+import com.artipie.http.headers.ContentLength;
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.ResponseMatcher;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.hm.RsHasStatus;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RsFlat}.
+ *
+ * @since 1.0
+ */
+final class RsFlatTest {
+
+    @Test
+    void sendsStatusOnly() {
+        MatcherAssert.assertThat(
+            new RsFlat(RsStatus.NOT_FOUND),
+            new RsHasStatus(RsStatus.NOT_FOUND)
+        );
+    }
+
+    @Test
+    void buildsFullResponse() {
+        MatcherAssert.assertThat(
+            new RsFlat.Builder()
+                .status(RsStatus.CREATED)
+                .header("X-Name", "value")
+                .body("created", StandardCharsets.UTF_8)
+                .build(),
+            new ResponseMatcher(
+                RsStatus.CREATED,
+                "created",
+                StandardCharsets.UTF_8
+            )
+        );
+    }
+
+    @Test
+    void replacesContentLength() {
+        MatcherAssert.assertThat(
+            new RsFlat.Builder()
+                .header(ContentLength.NAME, "100")
+                .header("X-Name", "value")
+                .body(new byte[3])
+                .build(),
+            new RsHasHeaders(new Header("X-Name", "value"), new ContentLength(3))
+        );
+    }
+
+    @Test
+    void sendsSameResponseManyTimes() {
+        final Response rsp = new RsFlat.Builder()
+            .body("again", StandardCharsets.UTF_8)
+            .build();
+        MatcherAssert.assertThat(
+            rsp,
+            Matchers.allOf(
+                new RsHasBody("again", StandardCharsets.UTF_8),
+                new RsHasBody("again", StandardCharsets.UTF_8)
+            )
+        );
+    }
+}
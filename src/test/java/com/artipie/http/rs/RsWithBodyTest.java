@@ -9,10 +9,15 @@ import com.artipie.http.headers.ContentLength;
 import com.artipie.http.headers.Header;
 import com.artipie.http.hm.ResponseMatcher;
 import com.artipie.http.hm.RsHasHeaders;
+import com.artipie.http.misc.BufferedContent;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsInstanceOf;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
 
 /**
  * Test for {@link RsWithBody}.
@@ -69,4 +74,16 @@ final class RsWithBodyTest {
             new RsHasHeaders(new ContentLength(size))
         );
     }
+
+    @Test
+    void sendsBufferedContentForByteBuffer() {
+        final AtomicReference<Publisher<ByteBuffer>> sent = new AtomicReference<>();
+        new RsWithBody(ByteBuffer.wrap("xyz".getBytes())).send(
+            (status, headers, body) -> {
+                sent.set(body);
+                return CompletableFuture.allOf();
+            }
+        ).toCompletableFuture().join();
+        MatcherAssert.assertThat(sent.get(), new IsInstanceOf(BufferedContent.class));
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rs.common;
+
+import com.artipie.http.headers.Header;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasHeaders;
+import io.reactivex.Flowable;
+import java.nio.charset.StandardCharsets;
+import javax.json.Json;
+import javax.json.JsonValue;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RsJsonStream}.
+ *
+ * @since 1.0
+ */
+final class RsJsonStreamTest {
+
+    @Test
+    void writesGeneratedBody() {
+        MatcherAssert.assertThat(
+            new RsJsonStream(
+                gen -> gen.writeStartObject()
+                    .write("name", "artipie")
+                    .writeStartArray("tags")
+                    .write("latest")
+                    .writeEnd()
+                    .writeEnd()
+            ),
+            new RsHasBody("{\"name\":\"artipie\",\"tags\":[\"latest\"]}", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void writesLargeBodyInChunks() {
+        final int count = 5000;
+        final StringBuilder expected = new StringBuilder("[");
+        for (int idx = 0; idx < count; ++idx) {
+            if (idx > 0) {
+                expected.append(',');
+            }
+            expected.append(idx);
+        }
+        expected.append(']');
+        MatcherAssert.assertThat(
+            new RsJsonStream(
+                gen -> {
+                    gen.writeStartArray();
+                    for (int idx = 0; idx < count; ++idx) {
+                        gen.write(idx);
+                    }
+                    gen.writeEnd();
+                }
+            ),
+            new RsHasBody(expected.toString(), StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void hasContentType() {
+        MatcherAssert.assertThat(
+            new RsJsonStream(gen -> gen.writeStartObject().writeEnd()),
+            new RsHasHeaders(new Header("Content-Type", "application/json; charset=UTF-8"))
+        );
+    }
+
+    @Test
+    void writesArrayOfPublishedValues() {
+        MatcherAssert.assertThat(
+            new RsJsonStream.Array(
+                Flowable.<JsonValue>just(
+                    Json.createObjectBuilder().add("id", 1).build(),
+                    Json.createArrayBuilder().add("two").build(),
+                    JsonValue.TRUE
+                )
+            ),
+            new RsHasBody("[{\"id\":1},[\"two\"],true]", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void writesEmptyArray() {
+        MatcherAssert.assertThat(
+            new RsJsonStream.Array(Flowable.empty()),
+            new RsHasBody("[]", StandardCharsets.UTF_8)
+        );
+    }
+}
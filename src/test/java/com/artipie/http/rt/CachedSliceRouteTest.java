@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.common.RsText;
+import com.artipie.http.slice.SliceSimple;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link CachedSliceRoute}.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class CachedSliceRouteTest {
+
+    @Test
+    void routesByCachedDecision() {
+        final CachedSliceRoute router = new CachedSliceRoute(
+            10,
+            CachedSliceRouteTest.route(new RtRule.ByPath("/one/.*"), "one"),
+            CachedSliceRouteTest.route(
+                new RtRule.All(ByMethodsRule.Standard.GET, new RtRule.ByPath("/two/.*")),
+                "two"
+            )
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                router.response(
+                    new RequestLine(RqMethod.GET, "/two/file?query=1").toString(),
+                    Headers.EMPTY, Content.EMPTY
+                ),
+                new RsHasBody("two", StandardCharsets.UTF_8)
+            );
+        }
+        MatcherAssert.assertThat("Wrong hits", router.hits(), new IsEqual<>(2L));
+        MatcherAssert.assertThat("Wrong misses", router.misses(), new IsEqual<>(1L));
+    }
+
+    @Test
+    void cachesNotFoundDecision() {
+        final CachedSliceRoute router = new CachedSliceRoute(
+            10, CachedSliceRouteTest.route(new RtRule.ByPath("/one/.*"), "one")
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                router.response(
+                    new RequestLine(RqMethod.GET, "/two").toString(),
+                    Headers.EMPTY, Content.EMPTY
+                ),
+                new RsHasStatus(RsStatus.NOT_FOUND)
+            );
+        }
+        MatcherAssert.assertThat(router.hits(), new IsEqual<>(1L));
+    }
+
+    @Test
+    void bypassesCacheForHeaderRules() {
+        final CachedSliceRoute router = new CachedSliceRoute(
+            10,
+            CachedSliceRouteTest.route(new RtRule.ByHeader("X-Upload"), "upload"),
+            CachedSliceRouteTest.route(RtRule.FALLBACK, "other")
+        );
+        MatcherAssert.assertThat(
+            "Wrong response with header",
+            router.response(
+                new RequestLine(RqMethod.PUT, "/file").toString(),
+                new Headers.From("X-Upload", "yes"), Content.EMPTY
+            ),
+            new RsHasBody("upload", StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Wrong response without header",
+            router.response(
+                new RequestLine(RqMethod.PUT, "/file").toString(),
+                Headers.EMPTY, Content.EMPTY
+            ),
+            new RsHasBody("other", StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Cache was used", router.hits() + router.misses(), new IsEqual<>(0L)
+        );
+    }
+
+    @Test
+    void keepsCacheBounded() {
+        final CachedSliceRoute router = new CachedSliceRoute(
+            2, CachedSliceRouteTest.route(new RtRule.ByPath("/.*"), "any")
+        );
+        for (final String path : new String[] {"/a", "/b", "/c", "/c"}) {
+            router.response(
+                new RequestLine(RqMethod.GET, path).toString(), Headers.EMPTY, Content.EMPTY
+            );
+        }
+        MatcherAssert.assertThat(router.hits(), new IsEqual<>(1L));
+    }
+
+    /**
+     * Route responding with text.
+     * @param rule Rule
+     * @param text Text
+     * @return Route
+     */
+    private static RtPath route(final RtRule rule, final String text) {
+        return new RtRulePath(rule, new SliceSimple(new RsText(text)));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithStatus;
+import com.artipie.http.rs.common.RsText;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsAnything;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MeteredSliceRoute}.
+ *
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class MeteredSliceRouteTest {
+
+    @Test
+    void countsRouteMetrics() {
+        final MeteredSliceRoute route = new MeteredSliceRoute(
+            new RtRulePath(
+                new RtRule.ByPath("/ok/.*"), (line, headers, body) -> new RsText("12345")
+            ),
+            new RtRulePath(
+                new RtRule.ByPath("/fail/.*"),
+                (line, headers, body) -> new RsWithStatus(
+                    new RsText("fail"), RsStatus.INTERNAL_ERROR
+                )
+            )
+        );
+        for (final String path : new ListOf<>("/ok/1", "/ok/2", "/fail/1", "/none")) {
+            MatcherAssert.assertThat(
+                route.response(
+                    new RequestLine(RqMethod.GET, path).toString(), Headers.EMPTY, Content.EMPTY
+                ),
+                new RsHasBody(new IsAnything<>())
+            );
+        }
+        final RouteMetrics.Snapshot first = route.snapshot().get(0);
+        final RouteMetrics.Snapshot second = route.snapshot().get(1);
+        MatcherAssert.assertThat(
+            new ListOf<>(
+                first.matches(), first.responses(2), first.responses(5), first.bytes(),
+                first.latency().values().stream().mapToLong(Long::longValue).sum(),
+                second.matches(), second.responses(5), second.bytes(),
+                route.notFound()
+            ),
+            new IsEqual<>(new ListOf<>(2L, 2L, 0L, 10L, 2L, 1L, 1L, 4L, 1L))
+        );
+    }
+
+    @Test
+    void keepsResponseBody() {
+        MatcherAssert.assertThat(
+            new MeteredSliceRoute(
+                new RtRulePath(RtRule.FALLBACK, (line, headers, body) -> new RsText("body"))
+            ).response(
+                new RequestLine(RqMethod.GET, "/").toString(), Headers.EMPTY, Content.EMPTY
+            ),
+            new RsHasBody("body", StandardCharsets.UTF_8)
+        );
+    }
+}
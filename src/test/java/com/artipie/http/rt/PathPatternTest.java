@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.rq.RequestLine;
+import java.util.Collections;
+import java.util.regex.Pattern;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link PathPattern}.
+ *
+ * @since 1.0
+ */
+final class PathPatternTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "'^/v2/.*',/v2/",
+        "'/api/npm/(?<name>.+)',/api/npm/",
+        "'^/a\\.b/c$',/a.b/c",
+        "'/files?/.*',/file",
+        "'/x/y{2}',/x/",
+        "'.*\\.jar',''",
+        "'/one|/two',''",
+        "'/one/(a|b)',/one/",
+        "'/c[|]d',/c",
+        "'\\d+/x',''"
+    })
+    void findsPrefix(final String ptn, final String prefix) {
+        MatcherAssert.assertThat(
+            new PathPattern(Pattern.compile(ptn)).prefix().orElse(""),
+            new IsEqual<>(prefix)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'.*\\.jar',.jar",
+        "'.*\\.(jar|pom)$',.jar;.pom",
+        "'.*/(?:index\\.html)$',/index.html",
+        "'/x/.*\\$',$",
+        "'/a/b',/a/b",
+        "'.*(b|)$',''",
+        "'/a/.+(b|c+)$',''",
+        "'/a/.*x?',''",
+        "'(?i).*\\.jar',''",
+        "'/a/\\d',''",
+        "'/one|/two',''",
+        "'.*\\u002ejar',''",
+        "'.*\\x2ejar',''",
+        "'/a\\0101',''",
+        "'(?<n>x)/\\k<n>',''",
+        "'.*\\cJx',''",
+        "'(a)\\11',''",
+        "'.*\\d\\.jar',.jar"
+    })
+    void findsSuffixes(final String ptn, final String suffixes) {
+        MatcherAssert.assertThat(
+            String.join(";", new PathPattern(Pattern.compile(ptn)).suffixes()),
+            new IsEqual<>(suffixes)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'^/api/version$',/api/version",
+        "'/a\\.b',/a.b",
+        "'/a\\$',/a$",
+        "'/a.b',''",
+        "'/ab?',''",
+        "'/a|/b',''"
+    })
+    void findsLiteral(final String ptn, final String literal) {
+        MatcherAssert.assertThat(
+            new PathPattern(Pattern.compile(ptn)).literal().orElse(""),
+            new IsEqual<>(literal)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'.*\\u002ejar',/a.jar",
+        "'.*\\x2ejar',/a.jar",
+        "'/a\\0101',/aA",
+        "'(?<n>x)/\\k<n>',x/x"
+    })
+    void keepsMatchingOfEscapes(final String ptn, final String path) {
+        MatcherAssert.assertThat(
+            new RtRule.ByPath(Pattern.compile(ptn)).apply(
+                new RequestLine("GET", path, "HTTP/1.1").toString(), Collections.emptyList()
+            ),
+            new IsEqual<>(true)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'/a/b',/a/b",
+        "'/a.b',/a.b"
+    })
+    void findsLiteralForLiteralFlag(final String ptn, final String expected) {
+        final PathPattern path = new PathPattern(Pattern.compile(ptn, Pattern.LITERAL));
+        MatcherAssert.assertThat(
+            new ListOf<>(path.literal().get(), path.prefix().get(), path.suffixes().get(0)),
+            new IsEqual<>(new ListOf<>(expected, expected, expected))
+        );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import java.util.Map;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link PathTemplate}.
+ *
+ * @since 1.0
+ */
+final class PathTemplateTest {
+
+    @Test
+    void capturesParameters() {
+        MatcherAssert.assertThat(
+            new PathTemplate("/v2/{name:.+}/blobs/{digest}")
+                .match("/v2/library/alpine/blobs/sha256:123").get(),
+            new IsEqual<Map<String, String>>(
+                new MapOf<String, String>(
+                    new MapEntry<>("name", "library/alpine"),
+                    new MapEntry<>("digest", "sha256:123")
+                )
+            )
+        );
+    }
+
+    @Test
+    void capturesParameterWithBracesInRegex() {
+        MatcherAssert.assertThat(
+            new PathTemplate("/charts/{name}-{version:\\d{1,3}\\.\\d+}.tgz")
+                .match("/charts/tomcat-10.2.tgz").get(),
+            new IsEqual<Map<String, String>>(
+                new MapOf<String, String>(
+                    new MapEntry<>("name", "tomcat"),
+                    new MapEntry<>("version", "10.2")
+                )
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "/v2/{name}/tags/list,/v2/alpine/tags/list,true",
+        "/v2/{name}/tags/list,/v2/library/alpine/tags/list,false",
+        "/v2/{name}/tags/list,/v1/alpine/tags/list,false",
+        "/index.yaml,/index.yaml,true",
+        "/index.yaml,/indexayaml,false"
+    })
+    void matchesPath(final String template, final String path, final boolean matches) {
+        MatcherAssert.assertThat(
+            new PathTemplate(template).match(path).isPresent(),
+            new IsEqual<>(matches)
+        );
+    }
+
+    @Test
+    void findsPrefixOfPattern() {
+        MatcherAssert.assertThat(
+            new PathPattern(new PathTemplate("/v2/{name:.+}/blobs/{digest}").pattern())
+                .prefix().get(),
+            new IsEqual<>("/v2/")
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/v2/{name", "/v2/{1name}", "/v2/{name}/{name}", "/{}"})
+    void failsOnInvalidTemplate(final String template) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PathTemplate(template)
+        );
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.Headers;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for {@link RtRule.ByPath}.
+ * @since 1.0
+ */
+class RtRuleByPathTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "'^/api/version$',/api/version,true",
+        "'^/api/version$',/api/versions,false",
+        "'/v2/.*',/v2/name/blobs,true",
+        "'/v2/.*',/v1/name,false",
+        "'.*\\.(jar|pom)$',/maven/lib.jar,true",
+        "'.*\\.(jar|pom)$',/maven/lib.pom,true",
+        "'.*\\.(jar|pom)$',/maven/lib.war,false",
+        "'/a/.*\\.jar',/a/.jar,true",
+        "'/ab.*b',/ab,false",
+        "'/files?/.*',/file/x,true",
+        "'(?i)/docs/.*',/DOCS/index,true"
+    })
+    void matchesPath(final String ptn, final String path, final boolean matches) {
+        MatcherAssert.assertThat(
+            new RtRule.ByPath(ptn).apply(
+                new RequestLine(RqMethod.GET, path).toString(), Headers.EMPTY
+            ),
+            new IsEqual<>(matches)
+        );
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.common.RsText;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RtTemplatePath}.
+ *
+ * @since 1.0
+ */
+final class RtTemplatePathTest {
+
+    @Test
+    void passesParametersToSlice() {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                new RtTemplatePath(
+                    ByMethodsRule.Standard.GET,
+                    "/v2/{name:.+}/blobs/{digest}",
+                    (line, headers, body) -> {
+                        final PathParams params = new PathParams(headers);
+                        return new RsText(
+                            String.join(" ", params.value("name"), params.value("digest"))
+                        );
+                    }
+                )
+            ).response(
+                new RequestLine(RqMethod.GET, "/v2/library/alpine/blobs/sha256:1").toString(),
+                new Headers.From("X-Path-Param-digest", "sha256:2"),
+                Content.EMPTY
+            ),
+            new RsHasBody("library/alpine sha256:1", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void skipsRequestOfOtherMethod() {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                new RtTemplatePath(
+                    ByMethodsRule.Standard.PUT,
+                    "/v2/{name}/manifests/{tag}",
+                    (line, headers, body) -> new RsText("put")
+                )
+            ).response(
+                new RequestLine(RqMethod.GET, "/v2/alpine/manifests/latest").toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new RsHasStatus(RsStatus.NOT_FOUND)
+        );
+    }
+
+    @Test
+    void routesAfterOtherPrefixes() {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                new RtRulePath(
+                    new RtRule.ByPath("/api/.*"), (line, headers, body) -> new RsText("api")
+                ),
+                new RtTemplatePath(
+                    "/{repo}/index.yaml",
+                    (line, headers, body) -> new RsText(new PathParams(headers).value("repo"))
+                )
+            ).response(
+                new RequestLine(RqMethod.GET, "/charts/index.yaml").toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new RsHasBody("charts", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void doesNotPassParametersAsHeaders() {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                new RtTemplatePath(
+                    "/{repo}/{file}",
+                    (line, headers, body) -> new RsText(
+                        String.valueOf(new Headers.From(headers).iterator().hasNext())
+                    )
+                )
+            ).response(
+                new RequestLine(RqMethod.GET, "/maven/pom.xml").toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new RsHasBody("false", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void keepsParametersOfOuterRoute() {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                new RtTemplatePath(
+                    "/{repo}/{path:.+}",
+                    new SliceRoute(
+                        new RtTemplatePath(
+                            "/{first}/{group}/{file}",
+                            (line, headers, body) -> {
+                                final PathParams params = new PathParams(headers);
+                                return new RsText(
+                                    String.join(
+                                        " ", params.value("repo"), params.value("group"),
+                                        params.value("file")
+                                    )
+                                );
+                            }
+                        )
+                    )
+                )
+            ).response(
+                new RequestLine(RqMethod.GET, "/repo/com/lib.jar").toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new RsHasBody("repo com lib.jar", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void rejectsControlCharactersInParameters() {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                new RtTemplatePath(
+                    "/v2/{name:.+}/blobs/{digest}",
+                    (line, headers, body) -> new RsText("blob")
+                )
+            ).response(
+                new RequestLine(RqMethod.GET, "/v2/lib/blobs/sha256:1%0d%0aHost:%20evil")
+                    .toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new RsHasStatus(RsStatus.BAD_REQUEST)
+        );
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.http.rq.RqMethod;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RuleShape}.
+ *
+ * @since 1.0
+ */
+final class RuleShapeTest {
+
+    @Test
+    void findsMethodsOfStandardRule() {
+        MatcherAssert.assertThat(
+            new RuleShape(ByMethodsRule.Standard.ALL_READ).methods().get(),
+            Matchers.containsInAnyOrder(RqMethod.GET, RqMethod.HEAD, RqMethod.OPTIONS)
+        );
+    }
+
+    @Test
+    void intersectsMethodsOfAllRules() {
+        MatcherAssert.assertThat(
+            new RuleShape(
+                new RtRule.All(
+                    ByMethodsRule.Standard.ALL_READ,
+                    new RtRule.ByPath("/.*"),
+                    new ByMethodsRule(RqMethod.GET, RqMethod.PUT)
+                )
+            ).methods().get(),
+            Matchers.contains(RqMethod.GET)
+        );
+    }
+
+    @Test
+    void joinsMethodsOfAnyRules() {
+        MatcherAssert.assertThat(
+            new RuleShape(
+                new RtRule.Any(ByMethodsRule.Standard.GET, ByMethodsRule.Standard.DELETE)
+            ).methods().get(),
+            Matchers.containsInAnyOrder(RqMethod.GET, RqMethod.DELETE)
+        );
+    }
+
+    @Test
+    void doesNotConstrainMethodsOfAnyWithPathRule() {
+        MatcherAssert.assertThat(
+            new RuleShape(
+                new RtRule.Any(ByMethodsRule.Standard.GET, new RtRule.ByPath("/"))
+            ).methods(),
+            new IsEqual<>(Optional.empty())
+        );
+    }
+
+    @Test
+    void findsLongestPrefixOfAllRules() {
+        MatcherAssert.assertThat(
+            new RuleShape(
+                new RtRule.All(new RtRule.ByPath("/v2/.*"), new RtRule.ByPath("/v2/lib/.*"))
+            ).prefix(),
+            new IsEqual<>(Optional.of("/v2/lib/"))
+        );
+    }
+
+    @Test
+    void findsCommonPrefixOfAnyRules() {
+        MatcherAssert.assertThat(
+            new RuleShape(
+                new RtRule.Any(new RtRule.ByPath("/api/one"), new RtRule.ByPath("/api/two"))
+            ).prefix(),
+            new IsEqual<>(Optional.of("/api/"))
+        );
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.common.RsText;
+import com.artipie.http.slice.SliceSimple;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link SliceRoute}.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+final class SliceRouteTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "GET,/v2/,base",
+        "GET,/v2/library/alpine/manifests/latest,manifest",
+        "GET,/v2/library/alpine/blobs/sha256:123,blob",
+        "PUT,/v2/library/alpine/blobs/uploads/1,upload",
+        "GET,/v2/library/alpine/blobs/uploads/1,blob",
+        "GET,/api/npm/-/whoami,whoami",
+        "GET,/api/npm/pkg,npm",
+        "GET,/any/other,fallback"
+    })
+    void routesInOrder(final String method, final String path, final String name) {
+        MatcherAssert.assertThat(
+            SliceRouteTest.router().response(
+                new RequestLine(RqMethod.valueOf(method), path).toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new RsHasBody(name, StandardCharsets.UTF_8)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "GET,/v1/",
+        "DELETE,/v2/library/alpine/blobs/uploads/1"
+    })
+    void respondsNotFound(final String method, final String path) {
+        MatcherAssert.assertThat(
+            new SliceRoute(
+                SliceRouteTest.route(new RtRule.ByPath("/v2/"), "base"),
+                SliceRouteTest.route(
+                    new RtRule.All(
+                        ByMethodsRule.Standard.PUT, new RtRule.ByPath("/v2/.*/uploads/.*")
+                    ),
+                    "upload"
+                )
+            ).response(
+                new RequestLine(RqMethod.valueOf(method), path).toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new RsHasStatus(RsStatus.NOT_FOUND)
+        );
+    }
+
+    @Test
+    void skipsRoutesOfOtherMethods() {
+        final AtomicInteger applied = new AtomicInteger();
+        new SliceRoute(
+            SliceRouteTest.route(
+                new RtRule.All(
+                    ByMethodsRule.Standard.PUT,
+                    (line, headers) -> applied.incrementAndGet() > 0
+                ),
+                "put"
+            ),
+            SliceRouteTest.route(RtRule.FALLBACK, "fallback")
+        ).response(
+            new RequestLine(RqMethod.GET, "/").toString(), Headers.EMPTY, Content.EMPTY
+        );
+        MatcherAssert.assertThat(applied.get(), new IsEqual<>(0));
+    }
+
+    /**
+     * Router for tests.
+     * @return Router
+     */
+    private static SliceRoute router() {
+        return new SliceRoute(
+            SliceRouteTest.route(new RtRule.ByPath("^/v2/$"), "base"),
+            SliceRouteTest.route(new RtRule.ByPath("/v2/.*/manifests/.*"), "manifest"),
+            SliceRouteTest.route(
+                new RtRule.All(
+                    ByMethodsRule.Standard.PUT, new RtRule.ByPath("/v2/.*/uploads/.*")
+                ),
+                "upload"
+            ),
+            SliceRouteTest.route(new RtRule.ByPath("/v2/.*/blobs/.*"), "blob"),
+            SliceRouteTest.route(
+                new RtRule.Any(
+                    new RtRule.ByPath("/api/npm/-/whoami"), new RtRule.ByPath("/api/npm/-/user")
+                ),
+                "whoami"
+            ),
+            SliceRouteTest.route(new RtRule.ByPath("/api/npm/.*"), "npm"),
+            SliceRouteTest.route(RtRule.FALLBACK, "fallback")
+        );
+    }
+
+    /**
+     * Route responding with text.
+     * @param rule Rule
+     * @param text Text
+     * @return Route
+     */
+    private static RtPath route(final RtRule rule, final String text) {
+        return new RtRulePath(rule, new SliceSimple(new RsText(text)));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.rt;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Slice;
+import com.artipie.http.hm.RsHasBody;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.common.RsText;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link VirtualHosts}.
+ *
+ * @since 1.0
+ */
+final class VirtualHostsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "maven.example.com,maven",
+        "MAVEN.Example.com:8080,maven",
+        "maven.example.com.,maven",
+        "npm.example.com,any",
+        "a.b.example.com,any",
+        "docker.internal.example.com,internal",
+        "example.com,root"
+    })
+    void routesByHostHeader(final String host, final String name) {
+        MatcherAssert.assertThat(
+            VirtualHostsTest.hosts().response(
+                new RequestLine(RqMethod.GET, "/path").toString(),
+                new Headers.From("Host", host),
+                Content.EMPTY
+            ),
+            new RsHasBody(name, StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void routesByAbsoluteUri() {
+        MatcherAssert.assertThat(
+            VirtualHostsTest.hosts().response(
+                new RequestLine(RqMethod.GET, "http://maven.example.com/lib.jar").toString(),
+                new Headers.From("Host", "example.com"),
+                Content.EMPTY
+            ),
+            new RsHasBody("maven", StandardCharsets.UTF_8)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "other.com",
+        "com",
+        "''"
+    })
+    void respondsNotFoundForUnknownHost(final String host) {
+        MatcherAssert.assertThat(
+            VirtualHostsTest.hosts().response(
+                new RequestLine(RqMethod.GET, "/").toString(),
+                new Headers.From("host", host),
+                Content.EMPTY
+            ),
+            new RsHasStatus(RsStatus.NOT_FOUND)
+        );
+    }
+
+    @Test
+    void respondsNotFoundWithoutHost() {
+        MatcherAssert.assertThat(
+            VirtualHostsTest.hosts().response(
+                new RequestLine(RqMethod.GET, "/").toString(),
+                Headers.EMPTY,
+                Content.EMPTY
+            ),
+            new RsHasStatus(RsStatus.NOT_FOUND)
+        );
+    }
+
+    /**
+     * Virtual hosts.
+     * @return Slice
+     */
+    private static Slice hosts() {
+        return new VirtualHosts(
+            new MapOf<String, Slice>(
+                new MapEntry<>("maven.example.com", new SliceText("maven")),
+                new MapEntry<>("example.com", new SliceText("root")),
+                new MapEntry<>("*.example.com", new SliceText("any")),
+                new MapEntry<>("*.Internal.example.com", new SliceText("internal"))
+            )
+        );
+    }
+
+    /**
+     * Slice responding with text.
+     * @since 1.0
+     */
+    private static final class SliceText extends Slice.Wrap {
+
+        /**
+         * Ctor.
+         * @param text Text
+         */
+        SliceText(final String text) {
+            super((line, headers, body) -> new RsText(text));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.hm.IsHeader;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import io.reactivex.Flowable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link CompressSlice}.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+final class CompressSliceTest {
+
+    /**
+     * Large compressible body.
+     */
+    private static final String BODY = StringUtils.repeat("{\"name\":\"artipie\"},", 500);
+
+    @Test
+    void compressesWithGzip() throws Exception {
+        final Sent sent = new Sent(
+            new CompressSlice(new SliceSimple(large())).response(
+                get(), new Headers.From("Accept-Encoding", "deflate;q=0.5, gzip"),
+                Flowable.empty()
+            )
+        );
+        MatcherAssert.assertThat(
+            "Has encoding headers",
+            sent.headers,
+            Matchers.allOf(
+                Matchers.hasItem(new IsHeader("Content-Encoding", "gzip")),
+                Matchers.hasItem(new IsHeader("Vary", "Accept-Encoding")),
+                Matchers.not(
+                    Matchers.hasItem(new IsHeader("Content-Length", Matchers.any(String.class)))
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Body is gzipped",
+            decode(new GZIPInputStream(new ByteArrayInputStream(sent.body))),
+            new IsEqual<>(CompressSliceTest.BODY)
+        );
+    }
+
+    @Test
+    void compressesWithDeflate() throws Exception {
+        final Sent sent = new Sent(
+            new CompressSlice(new SliceSimple(large())).response(
+                get(), new Headers.From("Accept-Encoding", "deflate"), Flowable.empty()
+            )
+        );
+        MatcherAssert.assertThat(
+            decode(new InflaterInputStream(new ByteArrayInputStream(sent.body))),
+            new IsEqual<>(CompressSliceTest.BODY)
+        );
+    }
+
+    @Test
+    void skipsSmallBody() throws Exception {
+        final byte[] body = "small".getBytes(StandardCharsets.UTF_8);
+        final Sent sent = new Sent(
+            new CompressSlice(
+                new SliceSimple(new RsWithBody(new RsWithStatus(RsStatus.OK), body))
+            ).response(get(), new Headers.From("Accept-Encoding", "gzip"), Flowable.empty())
+        );
+        MatcherAssert.assertThat(
+            "Body is not changed",
+            sent.body,
+            new IsEqual<>(body)
+        );
+        MatcherAssert.assertThat(
+            "Has no encoding header",
+            sent.headers,
+            Matchers.not(
+                Matchers.hasItem(new IsHeader("Content-Encoding", Matchers.any(String.class)))
+            )
+        );
+    }
+
+    @Test
+    void skipsAlreadyEncodedBody() throws Exception {
+        final Sent sent = new Sent(
+            new CompressSlice(
+                new SliceSimple(new RsWithHeaders(large(), "Content-Encoding", "br"))
+            ).response(get(), new Headers.From("Accept-Encoding", "gzip"), Flowable.empty())
+        );
+        MatcherAssert.assertThat(
+            "Body is not changed",
+            new String(sent.body, StandardCharsets.UTF_8),
+            new IsEqual<>(CompressSliceTest.BODY)
+        );
+        MatcherAssert.assertThat(
+            "Has origin encoding header",
+            sent.headers,
+            Matchers.hasItem(new IsHeader("Content-Encoding", "br"))
+        );
+    }
+
+    @Test
+    void skipsIfNotAccepted() throws Exception {
+        MatcherAssert.assertThat(
+            new String(
+                new Sent(
+                    new CompressSlice(new SliceSimple(large())).response(
+                        get(), new Headers.From("Accept-Encoding", "br, gzip;q=0"),
+                        Flowable.empty()
+                    )
+                ).body,
+                StandardCharsets.UTF_8
+            ),
+            new IsEqual<>(CompressSliceTest.BODY)
+        );
+    }
+
+    @Test
+    void skipsPartialContent() throws Exception {
+        final Sent sent = new Sent(
+            new CompressSlice(
+                new SliceSimple(new RsWithHeaders(large(), "Content-Range", "bytes 0-9/100"))
+            ).response(get(), new Headers.From("Accept-Encoding", "gzip"), Flowable.empty())
+        );
+        MatcherAssert.assertThat(
+            new String(sent.body, StandardCharsets.UTF_8),
+            new IsEqual<>(CompressSliceTest.BODY)
+        );
+    }
+
+    @Test
+    void compressesBodyWithMalformedLength() throws Exception {
+        final Sent sent = new Sent(
+            new CompressSlice(
+                new SliceSimple(new RsWithHeaders(large(), "Content-Length", "many"))
+            ).response(get(), new Headers.From("Accept-Encoding", "gzip"), Flowable.empty())
+        );
+        MatcherAssert.assertThat(
+            decode(new GZIPInputStream(new ByteArrayInputStream(sent.body))),
+            new IsEqual<>(CompressSliceTest.BODY)
+        );
+    }
+
+    private static Response large() {
+        return new RsWithHeaders(
+            new RsWithBody(
+                new RsWithStatus(RsStatus.OK), CompressSliceTest.BODY, StandardCharsets.UTF_8
+            ),
+            "Content-Type", "application/json"
+        );
+    }
+
+    private static String get() {
+        return new RequestLine(RqMethod.GET, "/index.json").toString();
+    }
+
+    private static String decode(final InputStream input) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // @checkstyle MagicNumberCheck (1 line)
+        final byte[] buf = new byte[1024];
+        int len = input.read(buf);
+        while (len >= 0) {
+            out.write(buf, 0, len);
+            len = input.read(buf);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Response sent to connection.
+     * @since 1.0
+     */
+    private static final class Sent {
+
+        /**
+         * Response headers.
+         */
+        private final List<Map.Entry<String, String>> headers;
+
+        /**
+         * Response body.
+         */
+        private final byte[] body;
+
+        /**
+         * Send response and keep the result.
+         * @param rsp Response
+         * @throws Exception On error
+         */
+        Sent(final Response rsp) throws Exception {
+            final CompletableFuture<byte[]> bytes = new CompletableFuture<>();
+            this.headers = new ArrayList<>(10);
+            rsp.send(
+                (status, hdrs, pub) -> {
+                    hdrs.forEach(this.headers::add);
+                    return new PublisherAs(pub).bytes().thenAccept(bytes::complete);
+                }
+            ).toCompletableFuture().get();
+            this.body = bytes.get();
+        }
+    }
+}
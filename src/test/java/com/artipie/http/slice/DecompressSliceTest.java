@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.asto.Key;
+import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
+import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.rs.RsStatus;
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link DecompressSlice}.
+ *
+ * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+final class DecompressSliceTest {
+
+    /**
+     * Uploaded text.
+     */
+    private static final String TEXT = StringUtils.repeat("<version>1.0</version>", 300);
+
+    @Test
+    void inflatesGzipBodyInChunks() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final byte[] gzip = gzip(DecompressSliceTest.TEXT.getBytes(StandardCharsets.UTF_8));
+        // @checkstyle MagicNumberCheck (20 lines)
+        MatcherAssert.assertThat(
+            "Responds with created",
+            new DecompressSlice(new SliceUpload(storage)),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.CREATED),
+                new RequestLine(RqMethod.PUT, "/pom.xml"),
+                new Headers.From(
+                    new Headers.From("Content-Encoding", "gzip"),
+                    "Content-Length", String.valueOf(gzip.length)
+                ),
+                new Content.From(
+                    Flowable.fromArray(
+                        ByteBuffer.wrap(Arrays.copyOfRange(gzip, 0, 5)),
+                        ByteBuffer.wrap(Arrays.copyOfRange(gzip, 5, gzip.length / 2)),
+                        ByteBuffer.wrap(Arrays.copyOfRange(gzip, gzip.length / 2, gzip.length))
+                    )
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Saves decompressed body",
+            new PublisherAs(storage.value(new Key.From("pom.xml")).join())
+                .asciiString().toCompletableFuture().join(),
+            new IsEqual<>(DecompressSliceTest.TEXT)
+        );
+    }
+
+    @Test
+    void inflatesDeflateBody() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream zip = new DeflaterOutputStream(out)) {
+            zip.write(DecompressSliceTest.TEXT.getBytes(StandardCharsets.UTF_8));
+        }
+        MatcherAssert.assertThat(
+            "Responds with created",
+            new DecompressSlice(new SliceUpload(storage)),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.CREATED),
+                new RequestLine(RqMethod.PUT, "/a.xml"),
+                new Headers.From("Content-Encoding", "deflate"),
+                new Content.From(out.toByteArray())
+            )
+        );
+        MatcherAssert.assertThat(
+            "Saves decompressed body",
+            new PublisherAs(storage.value(new Key.From("a.xml")).join())
+                .asciiString().toCompletableFuture().join(),
+            new IsEqual<>(DecompressSliceTest.TEXT)
+        );
+    }
+
+    @Test
+    void rejectsTooLargeBody() throws Exception {
+        // @checkstyle MagicNumberCheck (2 lines)
+        MatcherAssert.assertThat(
+            new DecompressSlice(new SliceUpload(new InMemoryStorage()), 100),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.PAYLOAD_TOO_LARGE),
+                new RequestLine(RqMethod.PUT, "/bomb.txt"),
+                new Headers.From("Content-Encoding", "gzip"),
+                new Content.From(
+                    gzip(DecompressSliceTest.TEXT.getBytes(StandardCharsets.UTF_8))
+                )
+            )
+        );
+    }
+
+    @Test
+    void rejectsUnsupportedEncoding() {
+        MatcherAssert.assertThat(
+            new DecompressSlice(new SliceUpload(new InMemoryStorage())),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.UNSUPPORTED_MEDIA_TYPE),
+                new RequestLine(RqMethod.PUT, "/file.txt"),
+                new Headers.From("Content-Encoding", "br"),
+                Content.EMPTY
+            )
+        );
+    }
+
+    private static byte[] gzip(final byte[] data) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+            zip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * The MIT License (MIT) Copyright (c) 2020-2021 artipie.com
+ * https://github.com/artipie/npm-adapter/LICENSE.txt
+ */
+package com.artipie.http.slice;
+
+import com.artipie.asto.Content;
+import com.artipie.http.Headers;
+import com.artipie.http.Response;
+import com.artipie.http.Slice;
+import com.artipie.http.hm.ResponseMatcher;
+import com.artipie.http.hm.RsHasStatus;
+import com.artipie.http.hm.SliceHasResponse;
+import com.artipie.http.rq.RequestLine;
+import com.artipie.http.rq.RequestLineFrom;
+import com.artipie.http.rq.RqMethod;
+import com.artipie.http.headers.Header;
+import com.artipie.http.rs.RsStatus;
+import com.artipie.http.rs.RsWithBody;
+import com.artipie.http.rs.RsWithHeaders;
+import com.artipie.http.rs.RsWithStatus;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link NegativeCacheSlice}.
+ * @since 1.0
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class NegativeCacheSliceTest {
+
+    /**
+     * Body of miss response.
+     */
+    private static final String BODY = "no such artifact";
+
+    @Test
+    void answersRememberedMissWithoutOrigin() {
+        final AtomicInteger count = new AtomicInteger();
+        final Slice slice = new NegativeCacheSlice(
+            NegativeCacheSliceTest.origin(count, new AtomicBoolean()),
+            Duration.ofMinutes(1), 10
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                slice,
+                new SliceHasResponse(
+                    new RsHasStatus(RsStatus.NOT_FOUND),
+                    new RequestLine(RqMethod.HEAD, "/missing")
+                )
+            );
+            MatcherAssert.assertThat(
+                slice,
+                new SliceHasResponse(
+                    NegativeCacheSliceTest.miss(),
+                    new RequestLine(RqMethod.GET, "/missing")
+                )
+            );
+        }
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(2));
+    }
+
+    @Test
+    void replaysHeadersAndBodyOfMiss() {
+        final AtomicInteger count = new AtomicInteger();
+        final Slice slice = new NegativeCacheSlice(
+            NegativeCacheSliceTest.origin(count, new AtomicBoolean()),
+            Duration.ofMinutes(1), 10
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                slice,
+                new SliceHasResponse(
+                    new ResponseMatcher(
+                        RsStatus.NOT_FOUND,
+                        NegativeCacheSliceTest.BODY.getBytes(StandardCharsets.UTF_8),
+                        new Header("X-Reason", "absent"),
+                        new Header("Content-Length", "16")
+                    ),
+                    new RequestLine(RqMethod.GET, "/described")
+                )
+            );
+        }
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(1));
+    }
+
+    @Test
+    void doesNotRememberLargeMissBody() {
+        final AtomicInteger count = new AtomicInteger();
+        final byte[] large = new byte[8 * 1024];
+        final Slice slice = new NegativeCacheSlice(
+            (line, headers, body) -> {
+                count.incrementAndGet();
+                return new RsWithBody(new RsWithStatus(RsStatus.NOT_FOUND), large);
+            },
+            Duration.ofMinutes(1), 10
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                slice,
+                new SliceHasResponse(
+                    new ResponseMatcher(RsStatus.NOT_FOUND, large),
+                    new RequestLine(RqMethod.GET, "/large")
+                )
+            );
+        }
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(2));
+    }
+
+    @Test
+    void forgetsMissesOnUpload() {
+        final AtomicInteger count = new AtomicInteger();
+        final Slice slice = new NegativeCacheSlice(
+            NegativeCacheSliceTest.origin(count, new AtomicBoolean()),
+            Duration.ofMinutes(1), 10
+        );
+        MatcherAssert.assertThat(
+            slice,
+            new SliceHasResponse(
+                NegativeCacheSliceTest.miss(),
+                new RequestLine(RqMethod.GET, "/artifact")
+            )
+        );
+        MatcherAssert.assertThat(
+            slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.CREATED),
+                new RequestLine(RqMethod.PUT, "/artifact")
+            )
+        );
+        MatcherAssert.assertThat(
+            slice,
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.OK),
+                new RequestLine(RqMethod.GET, "/artifact")
+            )
+        );
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(3));
+    }
+
+    @Test
+    void sendsRequestToOriginWhenMissExpires() {
+        final AtomicInteger count = new AtomicInteger();
+        final Slice slice = new NegativeCacheSlice(
+            NegativeCacheSliceTest.origin(count, new AtomicBoolean()),
+            Duration.ZERO, 10
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            MatcherAssert.assertThat(
+                slice,
+                new SliceHasResponse(
+                    NegativeCacheSliceTest.miss(),
+                    new RequestLine(RqMethod.GET, "/expired")
+                )
+            );
+        }
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(2));
+    }
+
+    @Test
+    void keepsMissesByAuthorization() {
+        final AtomicInteger count = new AtomicInteger();
+        final Slice slice = new NegativeCacheSlice(
+            NegativeCacheSliceTest.origin(count, new AtomicBoolean()),
+            Duration.ofMinutes(1), 10
+        );
+        for (final String user : new String[] {"Basic alice", "Basic bob", "Basic alice"}) {
+            MatcherAssert.assertThat(
+                slice,
+                new SliceHasResponse(
+                    NegativeCacheSliceTest.miss(),
+                    new RequestLine(RqMethod.GET, "/private"),
+                    new Headers.From("Authorization", user),
+                    Content.EMPTY
+                )
+            );
+        }
+        MatcherAssert.assertThat(count.get(), new IsEqual<>(2));
+    }
+
+    /**
+     * Matcher of miss response.
+     * @return Matcher
+     */
+    private static ResponseMatcher miss() {
+        return new ResponseMatcher(
+            RsStatus.NOT_FOUND, NegativeCacheSliceTest.BODY, StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Origin slice which has the artifact only after it was uploaded.
+     * @param count Requests counter
+     * @param uploaded Artifact was uploaded
+     * @return Slice
+     */
+    private static Slice origin(final AtomicInteger count, final AtomicBoolean uploaded) {
+        return (line, headers, body) -> {
+            count.incrementAndGet();
+            final Response res;
+            if (new RequestLineFrom(line).method() == RqMethod.PUT) {
+                uploaded.set(true);
+                res = new RsWithStatus(RsStatus.CREATED);
+            } else if (uploaded.get()) {
+                res = new RsWithStatus(RsStatus.OK);
+            } else {
+                res = new RsWithHeaders(
+                    new RsWithBody(
+                        new RsWithStatus(RsStatus.NOT_FOUND),
+                        NegativeCacheSliceTest.BODY, StandardCharsets.UTF_8
+                    ),
+                    "X-Reason", "absent"
+                );
+            }
+            return res;
+        };
+    }
+}
@@ -56,6 +56,42 @@ final class SliceDeleteTest {
         );
     }
 
+    @Test
+    void deletesPrecompressedSiblings() {
+        final Key sibling = new Key.From("foo.zz");
+        new BlockingStorage(this.storage).save(new Key.From("foo"), "anything".getBytes());
+        new BlockingStorage(this.storage).save(sibling, "compressed".getBytes());
+        MatcherAssert.assertThat(
+            new SliceDelete(this.storage, SliceDownload.Precompressed.CREATE),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NO_CONTENT),
+                new RequestLine(RqMethod.DELETE, "/foo")
+            )
+        );
+        MatcherAssert.assertThat(
+            new BlockingStorage(this.storage).exists(sibling),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void keepsValuesWithCodingExtensionWithoutSiblings() {
+        final Key archive = new Key.From("lib.js.gz");
+        new BlockingStorage(this.storage).save(new Key.From("lib.js"), "code".getBytes());
+        new BlockingStorage(this.storage).save(archive, "archive".getBytes());
+        MatcherAssert.assertThat(
+            new SliceDelete(this.storage),
+            new SliceHasResponse(
+                new RsHasStatus(RsStatus.NO_CONTENT),
+                new RequestLine(RqMethod.DELETE, "/lib.js")
+            )
+        );
+        MatcherAssert.assertThat(
+            new BlockingStorage(this.storage).exists(archive),
+            new IsEqual<>(true)
+        );
+    }
+
     @Test
     void returnsNotFound() {
         MatcherAssert.assertThat(
@@ -7,7 +7,9 @@ package com.artipie.http.slice;
 import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Storage;
+import com.artipie.asto.ext.PublisherAs;
 import com.artipie.asto.memory.InMemoryStorage;
+import com.artipie.http.Headers;
 import com.artipie.http.hm.ResponseMatcher;
 import com.artipie.http.hm.RsHasBody;
 import com.artipie.http.hm.RsHasHeaders;
@@ -15,10 +17,16 @@ import com.artipie.http.hm.RsHasStatus;
 import com.artipie.http.rq.RequestLine;
 import com.artipie.http.rs.RsStatus;
 import io.reactivex.Flowable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.zip.GZIPInputStream;
 import org.cactoos.map.MapEntry;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -86,6 +94,101 @@ public final class SliceDownloadTest {
         );
     }
 
+    @Test
+    void downloadsPrecompressedSibling() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final byte[] gzip = "gzipped".getBytes(StandardCharsets.UTF_8);
+        storage.save(new Key.From("index.json"), new Content.From("{}".getBytes())).get();
+        storage.save(new Key.From("index.json.gz"), new Content.From(gzip)).get();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage, SliceDownload.Precompressed.LOOKUP).response(
+                get("/index.json"),
+                new Headers.From("Accept-Encoding", "br, gzip"),
+                Flowable.empty()
+            ),
+            Matchers.allOf(
+                new RsHasBody(gzip),
+                new RsHasHeaders(
+                    new MapEntry<>("Content-Length", "7"),
+                    new MapEntry<>("Content-Disposition", "attachment; filename=\"index.json\""),
+                    new MapEntry<>("Content-Encoding", "gzip"),
+                    new MapEntry<>("Vary", "Accept-Encoding")
+                )
+            )
+        );
+    }
+
+    @Test
+    void downloadsOriginIfEncodingIsNotAccepted() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "{}".getBytes(StandardCharsets.UTF_8);
+        storage.save(new Key.From("data.json"), new Content.From(data)).get();
+        storage.save(new Key.From("data.json.gz"), new Content.From(new byte[]{1})).get();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage, SliceDownload.Precompressed.LOOKUP).response(
+                get("/data.json"), Collections.emptyList(), Flowable.empty()
+            ),
+            new RsHasBody(data)
+        );
+    }
+
+    @Test
+    void createsPrecompressedSibling() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "{\"name\":\"artipie\"}".getBytes(StandardCharsets.UTF_8);
+        storage.save(new Key.From("pkg.json"), new Content.From(data)).get();
+        MatcherAssert.assertThat(
+            "Responds with origin on first access",
+            new SliceDownload(storage, SliceDownload.Precompressed.CREATE).response(
+                get("/pkg.json"), new Headers.From("Accept-Encoding", "gzip"), Flowable.empty()
+            ),
+            new RsHasBody(data)
+        );
+        final Key sibling = new Key.From("pkg.json.gz");
+        // @checkstyle MagicNumberCheck (1 line)
+        for (int attempt = 0; attempt < 100 && !storage.exists(sibling).get(); ++attempt) {
+            Thread.sleep(10);
+        }
+        MatcherAssert.assertThat(
+            "Creates gzip sibling",
+            ungzip(
+                new PublisherAs(storage.value(sibling).get()).bytes().toCompletableFuture().get()
+            ),
+            new IsEqual<>(new String(data, StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void doesNotCreateSiblingOfCompressedValue() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final byte[] data = "PK archive".getBytes(StandardCharsets.UTF_8);
+        storage.save(new Key.From("lib.jar"), new Content.From(data)).get();
+        MatcherAssert.assertThat(
+            new SliceDownload(storage, SliceDownload.Precompressed.CREATE).response(
+                get("/lib.jar"), new Headers.From("Accept-Encoding", "gzip"), Flowable.empty()
+            ),
+            new RsHasBody(data)
+        );
+        MatcherAssert.assertThat(
+            storage.list(Key.ROOT).get(),
+            new IsEqual<>(Collections.singletonList(new Key.From("lib.jar")))
+        );
+    }
+
+    private static String ungzip(final byte[] gzip) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            // @checkstyle MagicNumberCheck (1 line)
+            final byte[] buf = new byte[1024];
+            int len = input.read(buf);
+            while (len >= 0) {
+                out.write(buf, 0, len);
+                len = input.read(buf);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
     private static String get(final String path) {
         return new RequestLine("GET", path, "HTTP/1.1").toString();
     }
@@ -4,6 +4,7 @@
  */
 package com.artipie.http.slice;
 
+import com.artipie.asto.Content;
 import com.artipie.asto.Key;
 import com.artipie.asto.Remaining;
 import com.artipie.asto.Storage;
@@ -55,4 +56,36 @@ public final class SliceUploadTest {
             new IsEqual<>(hello)
         );
     }
+
+    @Test
+    void removesPrecompressedSiblings() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final Key sibling = new Key.From("index.json.gz");
+        storage.save(sibling, new Content.From("stale".getBytes())).get();
+        MatcherAssert.assertThat(
+            new SliceUpload(storage, SliceDownload.Precompressed.LOOKUP).response(
+                new RequestLine("PUT", "index.json", "HTTP/1.1").toString(),
+                Collections.emptyList(),
+                Flowable.just(ByteBuffer.wrap("{}".getBytes(StandardCharsets.UTF_8)))
+            ),
+            new RsHasStatus(RsStatus.CREATED)
+        );
+        MatcherAssert.assertThat(storage.exists(sibling).get(), new IsEqual<>(false));
+    }
+
+    @Test
+    void keepsValuesWithCodingExtensionWithoutSiblings() throws Exception {
+        final Storage storage = new InMemoryStorage();
+        final Key archive = new Key.From("foo.tar.gz");
+        storage.save(archive, new Content.From("archive".getBytes())).get();
+        MatcherAssert.assertThat(
+            new SliceUpload(storage).response(
+                new RequestLine("PUT", "foo.tar", "HTTP/1.1").toString(),
+                Collections.emptyList(),
+                Flowable.just(ByteBuffer.wrap("tar".getBytes(StandardCharsets.UTF_8)))
+            ),
+            new RsHasStatus(RsStatus.CREATED)
+        );
+        MatcherAssert.assertThat(storage.exists(archive).get(), new IsEqual<>(true));
+    }
 }
@@ -4,6 +4,7 @@
  */
 package com.artipie.http.slice;
 
+import com.artipie.http.Headers;
 import com.artipie.http.Slice;
 import com.artipie.http.hm.AssertSlice;
 import com.artipie.http.hm.RqHasHeader;
@@ -128,6 +129,68 @@ final class TrimPathSliceTest {
         );
     }
 
+    @Test
+    void keepsQueryOfTrimmedPath() throws Exception {
+        verify(
+            new TrimPathSlice(
+                new AssertSlice(new RqLineHasUri(new IsEqual<>(URI.create("/two?x=1")))),
+                "one"
+            ),
+            requestLine("/one/two?x=1")
+        );
+    }
+
+    @Test
+    void trimsEncodedPath() throws Exception {
+        verify(
+            new TrimPathSlice(
+                new AssertSlice(new RqLineHasUri(new RqLineHasUri.HasPath("/a b"))),
+                "one"
+            ),
+            requestLine("/one/a%20b")
+        );
+    }
+
+    @Test
+    void checksPathOfNestedTrim() throws Exception {
+        new TrimPathSlice(
+            new TrimPathSlice((line, headers, body) -> StandardRs.EMPTY, "two"),
+            "one"
+        ).response(
+            requestLine("/one/three").toString(),
+            Collections.emptyList(),
+            Flowable.empty()
+        ).send(
+            (status, headers, body) -> {
+                MatcherAssert.assertThat(
+                    status,
+                    IsEqual.equalTo(RsStatus.INTERNAL_ERROR)
+                );
+                return CompletableFuture.completedFuture(null);
+            }
+        ).toCompletableFuture().get();
+    }
+
+    @Test
+    void trimsRequestWithFullPathHeaderOfClient() throws Exception {
+        new TrimPathSlice(
+            new AssertSlice(
+                new RqLineHasUri(new RqLineHasUri.HasPath("/two")),
+                new RqHasHeader(
+                    "x-fullpath", Matchers.containsInAnyOrder("/spoofed", "/one/two")
+                ),
+                Matchers.anything()
+            ),
+            "one"
+        ).response(
+            requestLine("/one/two").toString(),
+            new Headers.From("X-FullPath", "/spoofed"),
+            Flowable.empty()
+        ).send(
+            (status, headers, body) -> CompletableFuture.completedFuture(null)
+        ).toCompletableFuture().get();
+    }
+
     private static RequestLine requestLine(final String path) {
         return new RequestLine("GET", path, "HTTP/1.1");
     }